@@ -0,0 +1,73 @@
+// Load test for the create and detail endpoints.
+//
+// Run the same script against the app started with platform threads and with virtual threads:
+//   ./gradlew bootRun
+//   VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun        (requires a Java 21 runtime)
+//   k6 run --summary-export=build/loadtest/<mode>.json loadtest/container-endpoints.js
+//
+// Compare http_reqs (throughput) and the p(99) of http_req_duration per endpoint in the two summaries.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/container/api/v1';
+const RATE = parseInt(__ENV.RATE || '500');
+const DURATION = __ENV.DURATION || '2m';
+const STATUSES = ['UNLOADING', 'CUSTOMS_CLEARANCE', 'DECONSOLIDATION', 'READY_FOR_PICKUP', 'PICKED_UP'];
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        create: {
+            executor: 'constant-arrival-rate',
+            exec: 'createContainer',
+            rate: Math.max(1, Math.floor(RATE / 5)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 1000,
+            tags: { endpoint: 'create' },
+        },
+        detail: {
+            executor: 'constant-arrival-rate',
+            exec: 'getContainer',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 2000,
+            tags: { endpoint: 'detail' },
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:create}': ['p(99)<500'],
+        'http_req_duration{endpoint:detail}': ['p(99)<200'],
+    },
+};
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < 100; i++) {
+        const response = http.post(
+            `${BASE_URL}/create`,
+            JSON.stringify({ code: `SEED${i}`, status: 'UNLOADING' }),
+            { headers: { 'Content-Type': 'application/json' } },
+        );
+        ids.push(response.json('id'));
+    }
+    return { ids };
+}
+
+export function createContainer() {
+    const response = http.post(
+        `${BASE_URL}/create`,
+        JSON.stringify({ code: `LOAD${__VU}-${__ITER}`, status: STATUSES[__ITER % STATUSES.length] }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+    check(response, { 'created': (r) => r.status === 201 });
+}
+
+export function getContainer(data) {
+    const id = data.ids[__ITER % data.ids.length];
+    const response = http.get(`${BASE_URL}/detail/${id}`);
+    check(response, { 'found': (r) => r.status === 200 });
+}
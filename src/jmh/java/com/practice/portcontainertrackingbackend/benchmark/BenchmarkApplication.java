@@ -0,0 +1,38 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.practice.portcontainertrackingbackend.PortContainerTrackingBackendApplication;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** Starts the real application against an in-memory H2 database for benchmarking. */
+public class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return new SpringApplicationBuilder(PortContainerTrackingBackendApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.docker.compose.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "logging.level.root=warn")
+                .properties(extraProperties)
+                .run();
+    }
+
+    public static Container newContainer(int sequence) {
+        return Container.builder()
+                .code("BNCH" + sequence)
+                .status(ContainerStatus.values()[sequence % ContainerStatus.values().length])
+                .build();
+    }
+}
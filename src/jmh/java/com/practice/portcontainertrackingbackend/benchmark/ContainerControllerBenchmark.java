@@ -0,0 +1,103 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Full request handling (dispatch, filters, conversion, service) through MockMvc. The servlet
+ * filters of the context (Spring Boot's own, the concurrency limit, and Server-Timing or
+ * read-your-writes when enabled) are registered with their URL patterns, as
+ * {@code @AutoConfigureMockMvc} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContainerControllerBenchmark {
+    private static final int SEEDED_CONTAINERS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private int[] containerIds;
+    private int sequence;
+    private int nextRead;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start();
+        WebApplicationContext webApplicationContext = (WebApplicationContext) context;
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup(webApplicationContext);
+        SpringBootMockMvcBuilderCustomizer filters = new SpringBootMockMvcBuilderCustomizer(webApplicationContext);
+        // Printing, even deferred to failures, would buffer every request of the run.
+        filters.setPrint(MockMvcPrint.NONE);
+        filters.customize(builder);
+        mockMvc = builder.build();
+        ContainerService containerService = context.getBean(ContainerService.class);
+        containerIds = new int[SEEDED_CONTAINERS];
+        for (int i = 0; i < SEEDED_CONTAINERS; i++) {
+            containerIds[i] = containerService
+                    .createContainer(BenchmarkApplication.newContainer(sequence++))
+                    .getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private int nextContainerId() {
+        nextRead = (nextRead + 1) % containerIds.length;
+        return containerIds[nextRead];
+    }
+
+    @Benchmark
+    public MvcResult createContainer() throws Exception {
+        return mockMvc.perform(post(Constants.BASE_URL + Constants.CREATE_CONTAINER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"CTRL" + sequence++ + "\",\"status\":\"UNLOADING\"}"))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getContainer() throws Exception {
+        return mockMvc.perform(get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, nextContainerId()))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listContainers() throws Exception {
+        return mockMvc.perform(get(Constants.BASE_URL + Constants.LIST_CONTAINER_URL))
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult updateContainer() throws Exception {
+        return mockMvc.perform(put(Constants.BASE_URL + Constants.UPDATE_CONTAINER_URL, nextContainerId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"CTRL" + sequence++ + "\"}"))
+                .andReturn();
+    }
+}
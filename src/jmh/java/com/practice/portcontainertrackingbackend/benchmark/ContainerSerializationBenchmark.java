@@ -0,0 +1,58 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Jackson serialization of containers, configured the way Spring MVC configures it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContainerSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int listSize;
+
+    private ObjectMapper objectMapper;
+    private Container container;
+    private List<Container> containers;
+    private byte[] containerJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        containers = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            containers.add(BenchmarkApplication.newContainer(i).withId(i + 1));
+        }
+        container = containers.get(0);
+        containerJson = objectMapper.writeValueAsBytes(container);
+    }
+
+    @Benchmark
+    public byte[] serializeContainer() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(container);
+    }
+
+    @Benchmark
+    public byte[] serializeContainerList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(containers);
+    }
+
+    @Benchmark
+    public Container deserializeContainer() throws Exception {
+        return objectMapper.readValue(containerJson, Container.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Service layer hot paths through the Spring proxies (transactions and caching included) against
+ * an embedded H2 database. {@code cacheType=none} measures the uncached read path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContainerServiceBenchmark {
+    private static final int SEEDED_CONTAINERS = 1_000;
+    private static final int MANIFEST_SIZE = 100;
+
+    @Param({"caffeine", "none"})
+    public String cacheType;
+
+    private ConfigurableApplicationContext context;
+    private ContainerService containerService;
+    private int[] containerIds;
+    private int sequence;
+    private int nextRead;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = BenchmarkApplication.start("spring.cache.type=" + cacheType);
+        containerService = context.getBean(ContainerService.class);
+        containerIds = new int[SEEDED_CONTAINERS];
+        for (int i = 0; i < SEEDED_CONTAINERS; i++) {
+            containerIds[i] = containerService
+                    .createContainer(BenchmarkApplication.newContainer(sequence++))
+                    .getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private int nextContainerId() {
+        nextRead = (nextRead + 1) % containerIds.length;
+        return containerIds[nextRead];
+    }
+
+    @Benchmark
+    public Container createContainer() {
+        return containerService.createContainer(BenchmarkApplication.newContainer(sequence++));
+    }
+
+    /** Per-row registration of a manifest; compare with {@link #createContainersInBulk()}. */
+    @Benchmark
+    @OperationsPerInvocation(MANIFEST_SIZE)
+    public int createContainersOneByOne() {
+        int lastId = 0;
+        for (int i = 0; i < MANIFEST_SIZE; i++) {
+            lastId = containerService
+                    .createContainer(BenchmarkApplication.newContainer(sequence++))
+                    .getId();
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MANIFEST_SIZE)
+    public List<Container> createContainersInBulk() {
+        List<Container> manifest = new ArrayList<>(MANIFEST_SIZE);
+        for (int i = 0; i < MANIFEST_SIZE; i++) {
+            manifest.add(BenchmarkApplication.newContainer(sequence++));
+        }
+        return containerService.createContainers(manifest);
+    }
+
+    @Benchmark
+    public Optional<Container> getContainer() {
+        return containerService.getContainer(nextContainerId());
+    }
+
+    @Benchmark
+    public Container updateContainerCode() {
+        Container patch = Container.builder().code("UPDT" + sequence++).build();
+        return containerService.updateContainer(nextContainerId(), patch);
+    }
+}
@@ -0,0 +1,75 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.practice.portcontainertrackingbackend.domain.FrontCodedCodes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Top-10 prefix lookups in the code index over ISO 6346 style codes (owner code plus a 7 digit
+ * serial), and its footprint, reported as the {@code bytesPerCode} counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrontCodedCodesBenchmark {
+    private static final int OWNERS = 2_000;
+    private static final int SUGGESTIONS = 10;
+
+    @Param({"1000000"})
+    public int codeCount;
+
+    private FrontCodedCodes codes;
+    private String[] prefixes;
+    private int nextPrefix;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double bytesPerCode;
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        String[] owners = new String[OWNERS];
+        for (int i = 0; i < OWNERS; i++) {
+            owners[i] = "" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26))
+                    + (char) ('A' + random.nextInt(26)) + 'U';
+        }
+        TreeSet<String> sorted = new TreeSet<>();
+        while (sorted.size() < codeCount) {
+            sorted.add(owners[random.nextInt(OWNERS)] + String.format("%07d", random.nextInt(10_000_000)));
+        }
+        FrontCodedCodes.Builder builder = FrontCodedCodes.builder();
+        sorted.forEach(code -> builder.add(code, 1));
+        codes = builder.build();
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = owners[random.nextInt(OWNERS)] + random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public List<String> suggest(Footprint footprint) {
+        footprint.bytesPerCode = (double) codes.sizeInBytes() / codes.size();
+        String prefix = prefixes[nextPrefix++ & (prefixes.length - 1)];
+        List<String> suggestions = new ArrayList<>(SUGGESTIONS);
+        FrontCodedCodes.Cursor cursor = codes.seek(prefix);
+        while (suggestions.size() < SUGGESTIONS && cursor.next() && cursor.code().startsWith(prefix)) {
+            suggestions.add(cursor.code());
+        }
+        return suggestions;
+    }
+}
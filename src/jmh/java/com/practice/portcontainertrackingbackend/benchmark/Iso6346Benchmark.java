@@ -0,0 +1,141 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Validating, packing and unpacking ISO 6346 codes, and code to id lookups keyed by the code
+ * string ({@code HashMap<String, Integer>}) against lookups keyed by the packed code, either boxed
+ * ({@code HashMap<Long, Integer>}, as in the code cache) or in a sorted {@code long[]} with a
+ * parallel {@code int[]} of ids. The heap taken per entry by each, measured around building it, is
+ * reported as the {@code bytesPer*Entry} counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Iso6346Benchmark {
+    private static final long SERIAL_RANGE = 1_000_000;
+    private static final int CATEGORY_U = 'U' - 'A';
+
+    @Param({"1000000"})
+    public int codeCount;
+
+    private String[] queries;
+    private Map<String, Integer> idsByCode;
+    private Map<Long, Integer> idsByBoxedKey;
+    private long[] sortedKeys;
+    private int[] ids;
+    private double bytesPerStringEntry;
+    private double bytesPerBoxedKeyEntry;
+    private double bytesPerKeyEntry;
+    private final char[] buffer = new char[Iso6346.LENGTH];
+    private int nextQuery;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double bytesPerStringEntry;
+        public double bytesPerBoxedKeyEntry;
+        public double bytesPerKeyEntry;
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        long[] keys = random.longs(codeCount * 2L, 0, 26L * 26 * 26 * SERIAL_RANGE)
+                .map(owner -> ((owner / SERIAL_RANGE) * 26 + CATEGORY_U) * SERIAL_RANGE + owner % SERIAL_RANGE)
+                .distinct()
+                .limit(codeCount)
+                .toArray();
+
+        long before = usedHeap();
+        idsByCode = new HashMap<>(codeCount * 2);
+        for (int i = 0; i < keys.length; i++) {
+            idsByCode.put(Iso6346.decode(keys[i]), i);
+        }
+        bytesPerStringEntry = (double) (usedHeap() - before) / codeCount;
+
+        before = usedHeap();
+        idsByBoxedKey = new HashMap<>(codeCount * 2);
+        for (int i = 0; i < keys.length; i++) {
+            idsByBoxedKey.put(keys[i], i);
+        }
+        bytesPerBoxedKeyEntry = (double) (usedHeap() - before) / codeCount;
+
+        before = usedHeap();
+        sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        ids = new int[codeCount];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i;
+        }
+        bytesPerKeyEntry = (double) (usedHeap() - before) / codeCount;
+
+        // Distinct instances from the map keys, as the codes of incoming requests would be. Their hash
+        // codes are cached after the first pass though, which flatters lookupByString.
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = Iso6346.decode(keys[random.nextInt(codeCount)]);
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private String nextQuery() {
+        return queries[nextQuery++ & (queries.length - 1)];
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return Iso6346.isValid(nextQuery());
+    }
+
+    @Benchmark
+    public long encode() {
+        return Iso6346.encode(nextQuery());
+    }
+
+    @Benchmark
+    public char[] decode() {
+        Iso6346.decode(sortedKeys[(nextQuery++ & Integer.MAX_VALUE) % codeCount], buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public Integer lookupByString(Footprint footprint) {
+        footprint.bytesPerStringEntry = bytesPerStringEntry;
+        return idsByCode.get(nextQuery());
+    }
+
+    @Benchmark
+    public Integer lookupByBoxedKey(Footprint footprint) {
+        footprint.bytesPerBoxedKeyEntry = bytesPerBoxedKeyEntry;
+        return idsByBoxedKey.get(Iso6346.encode(nextQuery()));
+    }
+
+    @Benchmark
+    public int lookupByKey(Footprint footprint) {
+        footprint.bytesPerKeyEntry = bytesPerKeyEntry;
+        int index = Arrays.binarySearch(sortedKeys, Iso6346.encode(nextQuery()));
+        return index < 0 ? -1 : ids[index];
+    }
+}
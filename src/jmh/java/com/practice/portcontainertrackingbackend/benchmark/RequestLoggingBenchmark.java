@@ -0,0 +1,83 @@
+package com.practice.portcontainertrackingbackend.benchmark;
+
+import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import com.practice.portcontainertrackingbackend.utilities.StackTraceThrottle;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Time a request thread spends in a log call, with the appender on the calling thread
+ * ({@code sync}) and behind the async logger ring buffer ({@code async}). Run with
+ * {@code -prof gc} to check that the async path does not allocate per call. In a tight loop the
+ * async ring buffer fills up, so its numbers include the configured overflow policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    @Param({"sync", "async"})
+    public String mode;
+
+    private Logger log;
+    private StackTraceThrottle stackTraceThrottle;
+    private ContainerException.ContainerNotFoundException notFound;
+    private Path logFile;
+    // Boxed once, so the benchmark itself does not allocate per call
+    private final Integer containerId = 4_242;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, URISyntaxException {
+        logFile = Files.createTempFile("request-logging-benchmark", ".log");
+        System.setProperty("benchmark.log.file", logFile.toString());
+        Configurator.initialize(
+                "benchmark",
+                getClass().getClassLoader(),
+                getClass().getResource("/log4j2-benchmark-" + mode + ".xml").toURI());
+        log = LoggerFactory.getLogger(RequestLoggingBenchmark.class);
+        stackTraceThrottle = new StackTraceThrottle(Duration.ofMinutes(1));
+        notFound = new ContainerException.ContainerNotFoundException("Container not found");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        LogManager.shutdown();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void logMessage() {
+        log.info("Container created with ID: {}", containerId);
+    }
+
+    /** How expected exceptions were logged before: a full stack trace on every request. */
+    @Benchmark
+    public void logExpectedExceptionWithStackTrace() {
+        log.warn("Container not found with ID: {}", containerId, notFound);
+    }
+
+    @Benchmark
+    public void logExpectedExceptionThrottled() {
+        log.warn("Container not found with ID: {}", containerId, stackTraceThrottle.sample(notFound));
+    }
+}
@@ -1,8 +1,10 @@
 package com.practice.portcontainertrackingbackend;
 
+import com.practice.portcontainertrackingbackend.utilities.Constants;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -18,7 +20,10 @@ public class PortContainerTrackingBackendApplication {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(CorsRegistry registry) {
-                registry.addMapping("/**").allowedOrigins("http://localhost:3000");
+                registry.addMapping("/**")
+                        .allowedOrigins("http://localhost:3000")
+                        .exposedHeaders(
+                                HttpHeaders.ETAG, Constants.NEXT_CURSOR_HEADER, Constants.SERVER_TIMING_HEADER);
             }
         };
     }
@@ -0,0 +1,123 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Moves containers that were picked up more than the retention ago from the {@code container}
+ * table to {@code container_archive}, so the hot table and its indexes only hold the containers
+ * in the terminal and the recent pickups. Each batch is one short transaction: the rows are
+ * locked, skipping those a writer holds, copied with one INSERT ... SELECT and deleted with one
+ * DELETE. Every archived container publishes an {@code ARCHIVED} event in the same transaction,
+ * so the outbox, the event stream and the code indexes learn it left the table. Lookups by id
+ * fall back to the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "container.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ContainerArchiver {
+    private static final Logger log = LoggerFactory.getLogger(ContainerArchiver.class);
+
+    private final ContainerRepository containerRepository;
+    private final ContainerArchiveRepository containerArchiveRepository;
+    private final ContainerStatusCounters containerStatusCounters;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
+    private final Duration retention;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public ContainerArchiver(
+            ContainerRepository containerRepository,
+            ContainerArchiveRepository containerArchiveRepository,
+            ContainerStatusCounters containerStatusCounters,
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
+            @Value("${container.archive.retention:P30D}") Duration retention,
+            @Value("${container.archive.batch-size:1000}") int batchSize) {
+        this(
+                containerRepository,
+                containerArchiveRepository,
+                containerStatusCounters,
+                eventPublisher,
+                transactionOperations,
+                retention,
+                batchSize,
+                Clock.systemUTC());
+    }
+
+    public ContainerArchiver(
+            ContainerRepository containerRepository,
+            ContainerArchiveRepository containerArchiveRepository,
+            ContainerStatusCounters containerStatusCounters,
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
+            Duration retention,
+            int batchSize,
+            Clock clock) {
+        this.containerRepository = containerRepository;
+        this.containerArchiveRepository = containerArchiveRepository;
+        this.containerStatusCounters = containerStatusCounters;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Archives batch after batch until one comes back short. Rows skipped because they were locked
+     * are picked up by the next run.
+     */
+    @Scheduled(
+            initialDelayString = "${container.archive.interval:PT10M}",
+            fixedDelayString = "${container.archive.interval:PT10M}",
+            scheduler = Constants.ARCHIVE_SCHEDULER)
+    public long archive() {
+        Instant pickedUpBefore = clock.instant().minus(retention);
+        long archived = 0;
+        int batchArchived;
+        do {
+            Integer moved = transactionOperations.execute(status -> archiveBatch(pickedUpBefore));
+            batchArchived = moved == null ? 0 : moved;
+            archived += batchArchived;
+        } while (batchArchived == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} containers picked up before {}", archived, pickedUpBefore);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(Instant pickedUpBefore) {
+        List<Container> containers = containerRepository.findInStatusBeforeForUpdate(
+                ContainerStatus.PICKED_UP, pickedUpBefore, Limit.of(batchSize));
+        if (containers.isEmpty()) {
+            return 0;
+        }
+        List<Integer> ids = containers.stream().map(Container::getId).toList();
+        containerArchiveRepository.archive(ids);
+        int archived = containerRepository.deleteContainersByIds(ids);
+        // Counted once the transaction commits, like every other write.
+        containerStatusCounters.remove(ContainerStatus.PICKED_UP, archived);
+        containers.forEach(container -> eventPublisher.publishEvent(ContainerEvent.archived(container)));
+        return archived;
+    }
+}
@@ -0,0 +1,67 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maps container codes to ids in memory so a lookup by code can be answered from the detail
+ * cache. Entries are only hints: a hit is accepted only if the cached container still carries
+ * the requested code. Valid container numbers are keyed by their {@link Iso6346} key, a Long of
+ * 16 bytes instead of a String of about 56.
+ */
+@Component
+public class ContainerCodeIndex {
+
+    private final Cache codeCache;
+    private final Cache detailCache;
+
+    @Autowired
+    public ContainerCodeIndex(CacheManager cacheManager) {
+        this.codeCache = cacheManager.getCache(Constants.CONTAINER_CODE_CACHE);
+        this.detailCache = cacheManager.getCache(Constants.CONTAINER_DETAIL_CACHE);
+    }
+
+    public Optional<Container> findContainer(String code) {
+        Integer containerId = codeCache.get(key(code), Integer.class);
+        if (containerId == null) {
+            return Optional.empty();
+        }
+        Container container = detailCache.get(containerId, Container.class);
+        if (container == null || !code.equals(container.getCode())) {
+            return Optional.empty();
+        }
+        return Optional.of(container);
+    }
+
+    /** The cached copy of a container, only a hint: it may be behind the row. */
+    public Optional<Container> findCachedContainer(int containerId) {
+        return Optional.ofNullable(detailCache.get(containerId, Container.class));
+    }
+
+    public void remember(Container container) {
+        codeCache.put(key(container.getCode()), container.getId());
+        detailCache.put(container.getId(), container);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContainerEvent(ContainerEvent event) {
+        if (event.getType() == ContainerEvent.Type.DELETED || event.getType() == ContainerEvent.Type.ARCHIVED) {
+            codeCache.evict(key(event.getCode()));
+        } else {
+            codeCache.put(key(event.getCode()), event.getContainerId());
+        }
+    }
+
+    private static Object key(String code) {
+        long codeKey = Iso6346.encode(code);
+        return codeKey == Iso6346.INVALID ? code : codeKey;
+    }
+}
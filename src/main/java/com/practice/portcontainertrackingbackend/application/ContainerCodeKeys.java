@@ -0,0 +1,90 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Container codes as {@link Iso6346} keys. Codes are only required to be valid container numbers
+ * in strict mode, so existing free-form codes keep working; they simply have no key. Rows written
+ * before the key column existed are given one at startup, and until that is done lookups by code
+ * go through the string column.
+ */
+@Component
+public class ContainerCodeKeys {
+    private static final Logger log = LoggerFactory.getLogger(ContainerCodeKeys.class);
+
+    private final ContainerRepository containerRepository;
+    private final TransactionOperations transactionOperations;
+    private final boolean strict;
+    private final int batchSize;
+    private volatile boolean backfilled;
+
+    @Autowired
+    public ContainerCodeKeys(
+            ContainerRepository containerRepository,
+            TransactionOperations transactionOperations,
+            @Value("${container.code.strict:false}") boolean strict,
+            @Value("${container.code.backfill-batch-size:1000}") int batchSize) {
+        this.containerRepository = containerRepository;
+        this.transactionOperations = transactionOperations;
+        this.strict = strict;
+        this.batchSize = batchSize;
+    }
+
+    /** Rejects a code that is not a valid container number, in strict mode only; null means no code change. */
+    public void validate(String code) {
+        if (strict && code != null && !Iso6346.isValid(code)) {
+            throw new IllegalArgumentException("Invalid container code " + code);
+        }
+    }
+
+    /** Whether every row with a valid code has its key, so a lookup by key finds all of them. */
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    /**
+     * Walks the rows without a key in id order, one transaction per batch. Rows with free-form
+     * codes never get one and are walked again at every start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int lastId = 0;
+        long updated = 0;
+        while (true) {
+            int fromId = lastId;
+            List<Container> containers = transactionOperations.execute(status ->
+                    containerRepository.findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(fromId, Limit.of(batchSize)));
+            if (containers == null || containers.isEmpty()) {
+                break;
+            }
+            updated += transactionOperations.execute(status -> {
+                int rows = 0;
+                for (Container container : containers) {
+                    long codeKey = Iso6346.encode(container.getCode());
+                    if (codeKey != Iso6346.INVALID) {
+                        rows += containerRepository.updateCodeKeyByIdAndCode(
+                                container.getId(), container.getCode(), codeKey);
+                    }
+                }
+                return rows;
+            });
+            lastId = containers.get(containers.size() - 1).getId();
+        }
+        backfilled = true;
+        if (updated > 0) {
+            log.info("Set the code key of {} containers", updated);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.FrontCodedCodes;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Container codes in memory for type-ahead search. The codes are held in an immutable
+ * {@link FrontCodedCodes}, built at startup from one sorted scan of the table; committed writes
+ * go to a small sorted map of count changes that lookups merge on the fly, and that is folded
+ * into a new {@link FrontCodedCodes} once enough changes have piled up. The table is scanned
+ * again periodically to correct any drift.
+ */
+@Component
+public class ContainerCodePrefixIndex {
+    private static final Logger log = LoggerFactory.getLogger(ContainerCodePrefixIndex.class);
+
+    private final ContainerExportRepository containerExportRepository;
+    private final TransactionOperations transactionOperations;
+    private final int compactThreshold;
+    private final ConcurrentSkipListMap<String, Integer> changes = new ConcurrentSkipListMap<>();
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+    private volatile FrontCodedCodes codes = FrontCodedCodes.EMPTY;
+
+    @Autowired
+    public ContainerCodePrefixIndex(
+            ContainerExportRepository containerExportRepository,
+            TransactionOperations transactionOperations,
+            @Value("${container.code-index.compact-threshold:10000}") int compactThreshold) {
+        this.containerExportRepository = containerExportRepository;
+        this.transactionOperations = transactionOperations;
+        this.compactThreshold = compactThreshold;
+    }
+
+    /** Up to {@code limit} codes starting with {@code prefix}, in order. */
+    public List<String> suggest(String prefix, int limit) {
+        List<String> suggestions = new ArrayList<>(Math.min(limit, 64));
+        FrontCodedCodes.Cursor cursor = codes.seek(prefix);
+        Iterator<Map.Entry<String, Integer>> changeIterator =
+                changes.tailMap(prefix).entrySet().iterator();
+        boolean hasCode = cursor.next() && cursor.code().startsWith(prefix);
+        Map.Entry<String, Integer> change = nextChange(changeIterator, prefix);
+        while (suggestions.size() < limit && (hasCode || change != null)) {
+            int order = !hasCode ? 1 : change == null ? -1 : cursor.code().compareTo(change.getKey());
+            String code = order <= 0 ? cursor.code() : change.getKey();
+            int count = 0;
+            if (order <= 0) {
+                count += cursor.count();
+                hasCode = cursor.next() && cursor.code().startsWith(prefix);
+            }
+            if (order >= 0) {
+                count += change.getValue();
+                change = nextChange(changeIterator, prefix);
+            }
+            if (count > 0) {
+                suggestions.add(code);
+            }
+        }
+        return suggestions;
+    }
+
+    private static Map.Entry<String, Integer> nextChange(
+            Iterator<Map.Entry<String, Integer>> changeIterator, String prefix) {
+        if (!changeIterator.hasNext()) {
+            return null;
+        }
+        Map.Entry<String, Integer> change = changeIterator.next();
+        return change.getKey().startsWith(prefix) ? change : null;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    public long sizeInBytes() {
+        return codes.sizeInBytes();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContainerEvent(ContainerEvent event) {
+        switch (event.getType()) {
+            case CREATED -> change(event.getCode(), 1);
+            case DELETED, ARCHIVED -> change(event.getCode(), -1);
+            case UPDATED -> {
+                if (!event.getCode().equals(event.getPreviousCode())) {
+                    change(event.getPreviousCode(), -1);
+                    change(event.getCode(), 1);
+                }
+            }
+        }
+    }
+
+    private void change(String code, int delta) {
+        apply(code, delta);
+        pendingChanges.incrementAndGet();
+    }
+
+    private void apply(String code, int delta) {
+        changes.merge(code, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * Replaces the codes with a fresh scan. Changes recorded before the scan are already in it and
+     * are dropped; a write committed while the scan runs may be counted twice until the next one.
+     */
+    @Scheduled(
+            initialDelayString = "${container.code-index.rebuild-interval:PT6H}",
+            fixedDelayString = "${container.code-index.rebuild-interval:PT6H}")
+    public synchronized void rebuild() {
+        Map<String, Integer> scanned = new TreeMap<>(changes);
+        FrontCodedCodes.Builder builder = FrontCodedCodes.builder();
+        // The database may sort some codes differently than Java; those are merged in afterwards.
+        NavigableMap<String, Integer> unordered = new TreeMap<>();
+        transactionOperations.executeWithoutResult(status -> containerExportRepository.streamCodeCounts(
+                (code, count) -> {
+                    if (!builder.add(code, count)) {
+                        unordered.merge(code, count, Integer::sum);
+                    }
+                }));
+        FrontCodedCodes rebuilt = builder.build();
+        if (!unordered.isEmpty()) {
+            log.warn("{} container codes were not scanned in order", unordered.size());
+            rebuilt = rebuilt.merge(unordered);
+        }
+        codes = rebuilt;
+        scanned.forEach((code, delta) -> apply(code, -delta));
+        log.info("Indexed {} container codes in {} bytes", rebuilt.size(), rebuilt.sizeInBytes());
+    }
+
+    /**
+     * Folds the pending changes into new codes. Until they are subtracted again a lookup may see a
+     * change twice, which only matters for a code whose count goes from two to one.
+     */
+    @Scheduled(fixedDelayString = "${container.code-index.compact-interval:PT1M}")
+    public synchronized void compact() {
+        if (pendingChanges.get() < compactThreshold) {
+            return;
+        }
+        pendingChanges.set(0);
+        NavigableMap<String, Integer> folded = new TreeMap<>(changes);
+        codes = codes.merge(folded);
+        folded.forEach((code, delta) -> apply(code, -delta));
+    }
+}
@@ -0,0 +1,113 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/** Writes exported containers one row at a time to a buffered stream. */
+public abstract class ContainerExportWriter implements Closeable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    protected final Writer writer;
+
+    protected ContainerExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public static ContainerExportWriter of(ContainerExportFormat format, OutputStream outputStream)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(outputStream);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    public abstract void write(Container container) throws IOException;
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static class NdjsonWriter extends ContainerExportWriter {
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Container container) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", container.getId());
+            generator.writeStringField("code", container.getCode());
+            generator.writeStringField("status", container.getStatus().name());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static class CsvWriter extends ContainerExportWriter {
+
+        CsvWriter(OutputStream outputStream) throws IOException {
+            super(outputStream);
+            writer.write("id,code,status\n");
+        }
+
+        @Override
+        public void write(Container container) throws IOException {
+            writer.write(Integer.toString(container.getId()));
+            writer.write(',');
+            writeEscaped(container.getCode());
+            writer.write(',');
+            writer.write(container.getStatus().name());
+            writer.write('\n');
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves {@code container_seq} past the highest container id on PostgreSQL. Container ids used to
+ * come from an identity column, and on a database created back then Hibernate's schema update
+ * creates the sequence at 1, so its first blocks would hand out ids that are already taken. Runs
+ * once the schema update is done, before any request is served, and only ever moves the sequence
+ * forward: with {@code INCREMENT BY 50} the next block starts right after the highest id.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ContainerIdSequence {
+    private static final Logger log = LoggerFactory.getLogger(ContainerIdSequence.class);
+
+    static final String ALIGN_SQL = "SELECT setval('container_seq', MAX(id)) FROM container "
+            + "HAVING MAX(id) >= (SELECT last_value FROM container_seq)";
+
+    private final JdbcOperations jdbcOperations;
+    private final boolean postgresql;
+
+    @Autowired
+    public ContainerIdSequence(JdbcOperations jdbcOperations, @Value("${spring.datasource.url:}") String url) {
+        this.jdbcOperations = jdbcOperations;
+        this.postgresql = url.startsWith("jdbc:postgresql:");
+    }
+
+    @PostConstruct
+    public void align() {
+        if (!postgresql) {
+            return;
+        }
+        List<Long> values = jdbcOperations.queryForList(ALIGN_SQL, Long.class);
+        if (!values.isEmpty()) {
+            log.info("Moved container_seq past the existing container ids to {}", values.get(0));
+        }
+    }
+}
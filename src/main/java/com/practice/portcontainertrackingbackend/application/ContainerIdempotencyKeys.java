@@ -0,0 +1,129 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerIdempotencyKey;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerIdempotencyKeyRepository;
+import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Runs a container registration at most once per {@code Idempotency-Key}. Responses live in a
+ * bounded, expiring in-memory cache in front of the {@code container_idempotency_key} table:
+ * <ul>
+ *   <li>a retry of a completed request is answered from memory, without touching the database;
+ *   <li>concurrent requests with the same key on one node share a single future, so one insert runs;
+ *   <li>on other nodes, the unique key makes the later insert fail and replay the stored response.
+ * </ul>
+ * A key sent again with a different container is rejected.
+ */
+@Component
+public class ContainerIdempotencyKeys {
+    private static final Logger log = LoggerFactory.getLogger(ContainerIdempotencyKeys.class);
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ContainerIdempotencyKeyRepository containerIdempotencyKeyRepository;
+    private final TransactionOperations transactionOperations;
+    private final AsyncCache<String, Container> responses;
+    private final Duration retention;
+
+    @Autowired
+    public ContainerIdempotencyKeys(
+            ContainerIdempotencyKeyRepository containerIdempotencyKeyRepository,
+            TransactionOperations transactionOperations,
+            @Value("${container.idempotency.max-size:100000}") long maxSize,
+            @Value("${container.idempotency.retention:PT24H}") Duration retention) {
+        this.containerIdempotencyKeyRepository = containerIdempotencyKeyRepository;
+        this.transactionOperations = transactionOperations;
+        // In-flight futures are not expired; the retention starts once the response is complete.
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(retention)
+                .buildAsync();
+        this.retention = retention;
+    }
+
+    public Container createOnce(String idempotencyKey, Container container, Supplier<Container> create) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        CompletableFuture<Container> response = new CompletableFuture<>();
+        CompletableFuture<Container> previousResponse = responses.asMap().putIfAbsent(idempotencyKey, response);
+        if (previousResponse != null) {
+            return matching(idempotencyKey, container, join(previousResponse));
+        }
+        try {
+            Container created = containerIdempotencyKeyRepository
+                    .findById(idempotencyKey)
+                    .map(ContainerIdempotencyKey::toContainer)
+                    .orElseGet(() -> createAndRecord(idempotencyKey, create));
+            response.complete(created);
+            return matching(idempotencyKey, container, created);
+        } catch (RuntimeException e) {
+            // Waiting requests fail with it, later retries start over.
+            responses.asMap().remove(idempotencyKey, response);
+            response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Container createAndRecord(String idempotencyKey, Supplier<Container> create) {
+        try {
+            return transactionOperations.execute(status -> {
+                Container created = create.get();
+                containerIdempotencyKeyRepository.saveAndFlush(
+                        ContainerIdempotencyKey.of(idempotencyKey, created, Instant.now()));
+                return created;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node inserted the key first; the insert waited for its commit, so the row is readable now.
+            return containerIdempotencyKeyRepository
+                    .findById(idempotencyKey)
+                    .map(ContainerIdempotencyKey::toContainer)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private static Container matching(String idempotencyKey, Container container, Container created) {
+        if (!Objects.equals(container.getCode(), created.getCode())
+                || !Objects.equals(container.getStatus(), created.getStatus())) {
+            throw new ContainerException.IdempotencyKeyReusedException(
+                    "Idempotency key " + idempotencyKey + " was used for another container");
+        }
+        return created;
+    }
+
+    private static Container join(CompletableFuture<Container> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${container.idempotency.cleanup-interval:PT1H}")
+    public void deleteExpiredKeys() {
+        Integer deleted = transactionOperations.execute(
+                status -> containerIdempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
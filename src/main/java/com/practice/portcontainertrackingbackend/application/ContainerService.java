@@ -1,17 +1,64 @@
 package com.practice.portcontainertrackingbackend.application;
 
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import com.practice.portcontainertrackingbackend.domain.ContainerPage;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChangePage;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ContainerService {
     Container createContainer(Container container);
 
+    /** Creates the container only once per {@code idempotencyKey}; retries get the original container. */
+    Container createContainer(Container container, String idempotencyKey);
+
+    List<Container> createContainers(List<Container> containers);
+
     Optional<Container> getContainer(int containerId);
 
+    Optional<Container> getContainerByCode(String code);
+
     List<Container> getAllContainers();
 
+    /** Up to {@code limit} container codes starting with {@code prefix}, in order, from memory. */
+    List<String> suggestContainerCodes(String prefix, int limit);
+
+    ContainerPage getContainersPage(String cursor, int size);
+
+    /** Same as {@link #getContainersPage(String, int)} for the containers in {@code status} only. */
+    ContainerPage getContainersPage(ContainerStatus status, String cursor, int size);
+
+    /** Number of containers in {@code status}, or of all containers when it is null. */
+    long countContainers(ContainerStatus status);
+
+    Map<ContainerStatus, Long> getStatusSummary();
+
+    /** Status changes of the container between {@code from} and {@code to} (both optional), oldest first. */
+    List<ContainerStatusChange> getContainerHistory(int containerId, Instant from, Instant to);
+
+    /** The status every container had at {@code at}, one page at a time in container id order. */
+    ContainerStatusChangePage getContainerStatusesAt(Instant at, String cursor, int size);
+
+    /** Dwell time distribution per status of the containers that left it between {@code from} and {@code to}. */
+    Map<ContainerStatus, ContainerDwellTimeSummary> getDwellTimes(Instant from, Instant to);
+
+    void exportContainers(ContainerExportFormat format, OutputStream outputStream) throws IOException;
+
     Container updateContainer(int containerId, Container container);
 
+    /** Updates the container only if it is still at {@code expectedVersion}. */
+    Container updateContainer(int containerId, Container container, long expectedVersion);
+
+    Container transitionContainer(int containerId, ContainerTransition transition);
+
     void deleteContainerById(int containerId);
 }
@@ -1,34 +1,164 @@
 package com.practice.portcontainertrackingbackend.application;
 
+import com.practice.portcontainertrackingbackend.domain.ArchivedContainer;
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import com.practice.portcontainertrackingbackend.domain.ContainerPage;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChangePage;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
 import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
 import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.CursorCodec;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ContainerServiceImpl implements ContainerService {
+    private static final int EXPORT_FLUSH_ROWS = 1000;
+    private static final Duration DEFAULT_DWELL_TIME_RANGE = Duration.ofHours(24);
+    private static final String UNLESS_NOT_FOUND_OR_REPLICA =
+            "#result == null || T(com.practice.portcontainertrackingbackend.utilities.ReadYourWrites).isReplicaRead()";
 
     private ContainerRepository containerRepository;
+    private ContainerExportRepository containerExportRepository;
+    private ContainerStatusHistoryRepository containerStatusHistoryRepository;
+    private ContainerDwellTimeRepository containerDwellTimeRepository;
+    private ContainerStatusCounters containerStatusCounters;
+    private ContainerCodeIndex containerCodeIndex;
+    private ContainerCodePrefixIndex containerCodePrefixIndex;
+    private ContainerCodeKeys containerCodeKeys;
+    private ContainerIdempotencyKeys containerIdempotencyKeys;
+    private ContainerArchiveRepository containerArchiveRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ContainerServiceImpl(ContainerRepository containerRepository) {
+    public ContainerServiceImpl(
+            ContainerRepository containerRepository,
+            ContainerExportRepository containerExportRepository,
+            ContainerStatusHistoryRepository containerStatusHistoryRepository,
+            ContainerDwellTimeRepository containerDwellTimeRepository,
+            ContainerStatusCounters containerStatusCounters,
+            ContainerCodeIndex containerCodeIndex,
+            ContainerCodePrefixIndex containerCodePrefixIndex,
+            ContainerCodeKeys containerCodeKeys,
+            ContainerIdempotencyKeys containerIdempotencyKeys,
+            ContainerArchiveRepository containerArchiveRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.containerRepository = containerRepository;
+        this.containerExportRepository = containerExportRepository;
+        this.containerStatusHistoryRepository = containerStatusHistoryRepository;
+        this.containerDwellTimeRepository = containerDwellTimeRepository;
+        this.containerStatusCounters = containerStatusCounters;
+        this.containerCodeIndex = containerCodeIndex;
+        this.containerCodePrefixIndex = containerCodePrefixIndex;
+        this.containerCodeKeys = containerCodeKeys;
+        this.containerIdempotencyKeys = containerIdempotencyKeys;
+        this.containerArchiveRepository = containerArchiveRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Container createContainer(Container container) {
         if (container.getCode() == null || container.getStatus() == null) {
             throw new IllegalArgumentException("Error in arguments");
         }
-        return containerRepository.save(container);
+        containerCodeKeys.validate(container.getCode());
+        Container containerCreated = containerRepository.save(container);
+        eventPublisher.publishEvent(ContainerEvent.created(containerCreated));
+        return containerCreated;
     }
 
+    /** The creation joins the transaction that records the key, so both commit or neither does. */
     @Override
+    public Container createContainer(Container container, String idempotencyKey) {
+        return containerIdempotencyKeys.createOnce(idempotencyKey, container, () -> createContainer(container));
+    }
+
+    @Override
+    @Transactional
+    public List<Container> createContainers(List<Container> containers) {
+        if (containers == null || containers.isEmpty() || containers.size() > Constants.MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        // The whole manifest is rejected before anything is written.
+        for (Container container : containers) {
+            if (container == null || container.getCode() == null || container.getStatus() == null) {
+                throw new IllegalArgumentException("Error in arguments");
+            }
+            containerCodeKeys.validate(container.getCode());
+        }
+        // Ids are always generated, so every entity is persisted (and batched) rather than merged.
+        List<Container> newContainers =
+                containers.stream().map(container -> container.withId(0)).toList();
+        List<Container> containersCreated = containerRepository.saveAll(newContainers);
+        containersCreated.forEach(created -> eventPublisher.publishEvent(ContainerEvent.created(created)));
+        return containersCreated;
+    }
+
+    @Override
+    @Cacheable(
+            cacheNames = Constants.CONTAINER_DETAIL_CACHE,
+            key = "#containerId",
+            unless = UNLESS_NOT_FOUND_OR_REPLICA)
     public Optional<Container> getContainer(int containerId) {
-        return containerRepository.findById(containerId);
+        // A replica may lag behind the primary: what it serves is returned but not cached for every client.
+        ReadYourWrites.resetReplicaRead();
+        // Containers picked up long ago have moved to the archive; they are found there but no longer updated.
+        Optional<Container> container = containerRepository.findById(containerId);
+        return container.isPresent()
+                ? container
+                : containerArchiveRepository.findById(containerId).map(ArchivedContainer::toContainer);
+    }
+
+    @Override
+    public Optional<Container> getContainerByCode(String code) {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        Optional<Container> cachedContainer = containerCodeIndex.findContainer(code);
+        if (cachedContainer.isPresent()) {
+            return cachedContainer;
+        }
+        long codeKey = Iso6346.encode(code);
+        ReadYourWrites.resetReplicaRead();
+        Optional<Container> container = codeKey != Iso6346.INVALID && containerCodeKeys.isBackfilled()
+                ? containerRepository.findFirstByCodeKeyOrderByIdDesc(codeKey)
+                : containerRepository.findFirstByCodeOrderByIdDesc(code);
+        if (!ReadYourWrites.isReplicaRead()) {
+            container.ifPresent(containerCodeIndex::remember);
+        }
+        return container;
     }
 
     @Override
@@ -37,35 +167,275 @@ public class ContainerServiceImpl implements ContainerService {
     }
 
     @Override
-    public Container updateContainer(int containerId, Container container) {
-        Optional<Container> retrievedContainer = containerRepository.findById(containerId);
+    public List<String> suggestContainerCodes(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        return containerCodePrefixIndex.suggest(prefix, Math.min(limit, Constants.MAX_SUGGESTIONS));
+    }
 
-        if (retrievedContainer.isPresent()) {
-            Container actualContainer = retrievedContainer.get();
-            try {
-                if (container.getCode() != null) {
-                    actualContainer.setCode(container.getCode());
-                }
-                if (container.getStatus() != null) {
-                    actualContainer.setStatus(container.getStatus());
+    @Override
+    public ContainerPage getContainersPage(String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        int afterId = CursorCodec.decode(cursor);
+
+        // One extra row tells whether another page exists without a count query.
+        List<Container> containers =
+                containerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return toPage(containers, pageSize);
+    }
+
+    @Override
+    public ContainerPage getContainersPage(ContainerStatus status, String cursor, int size) {
+        if (status == null || size < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        int afterId = CursorCodec.decode(cursor);
+
+        List<Container> containers =
+                containerRepository.findByStatusAfterId(status, afterId, Limit.of(pageSize + 1));
+        return toPage(containers, pageSize);
+    }
+
+    private static ContainerPage toPage(List<Container> containers, int pageSize) {
+        if (containers.size() > pageSize) {
+            List<Container> page = containers.subList(0, pageSize);
+            return new ContainerPage(page, CursorCodec.encode(page.get(pageSize - 1).getId()));
+        }
+        return new ContainerPage(containers, null);
+    }
+
+    /** Answered from the in-memory counters, so it costs the same however many containers a status holds. */
+    @Override
+    public long countContainers(ContainerStatus status) {
+        return status == null ? containerStatusCounters.total() : containerStatusCounters.count(status);
+    }
+
+    @Override
+    public Map<ContainerStatus, Long> getStatusSummary() {
+        Map<ContainerStatus, Long> summary = new EnumMap<>(ContainerStatus.class);
+        for (ContainerStatus status : ContainerStatus.values()) {
+            summary.put(status, containerStatusCounters.count(status));
+        }
+        return summary;
+    }
+
+    @Override
+    public List<ContainerStatusChange> getContainerHistory(int containerId, Instant from, Instant to) {
+        Instant historyFrom = from == null ? Instant.EPOCH : from;
+        Instant historyTo = to == null ? Instant.now() : to;
+        if (historyFrom.isAfter(historyTo)) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        return containerStatusHistoryRepository.findByContainerIdAndChangedAtBetweenOrderByChangedAtAsc(
+                containerId, historyFrom, historyTo);
+    }
+
+    @Override
+    public ContainerStatusChangePage getContainerStatusesAt(Instant at, String cursor, int size) {
+        if (at == null || size < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        int pageSize = Math.min(size, Constants.MAX_PAGE_SIZE);
+        int afterId = CursorCodec.decode(cursor);
+
+        List<ContainerStatusChange> changes =
+                containerStatusHistoryRepository.findStatusesAt(at, afterId, Limit.of(pageSize + 1));
+        if (changes.size() > pageSize) {
+            List<ContainerStatusChange> page = changes.subList(0, pageSize);
+            return new ContainerStatusChangePage(
+                    page, CursorCodec.encode(page.get(pageSize - 1).getContainerId()));
+        }
+        return new ContainerStatusChangePage(changes, null);
+    }
+
+    /** Merges the hourly sketches of the range, so the cost depends on the hours covered, not on the containers. */
+    @Override
+    public Map<ContainerStatus, ContainerDwellTimeSummary> getDwellTimes(Instant from, Instant to) {
+        Instant rangeTo = to == null ? Instant.now() : to;
+        Instant rangeFrom = from == null ? rangeTo.minus(DEFAULT_DWELL_TIME_RANGE) : from;
+        if (!rangeFrom.isBefore(rangeTo)) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        Map<ContainerStatus, DwellTimeSketch> sketches = new EnumMap<>(ContainerStatus.class);
+        for (ContainerDwellTime dwellTime :
+                containerDwellTimeRepository.findByHourStartGreaterThanEqualAndHourStartLessThan(
+                        rangeFrom.truncatedTo(ChronoUnit.HOURS), rangeTo)) {
+            sketches.computeIfAbsent(dwellTime.getStatus(), status -> new DwellTimeSketch())
+                    .merge(DwellTimeSketch.fromBytes(dwellTime.getSketch()));
+        }
+        Map<ContainerStatus, ContainerDwellTimeSummary> summaries = new EnumMap<>(ContainerStatus.class);
+        sketches.forEach((status, sketch) -> summaries.put(status, ContainerDwellTimeSummary.of(sketch)));
+        return summaries;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportContainers(ContainerExportFormat format, OutputStream outputStream) throws IOException {
+        try (ContainerExportWriter writer = ContainerExportWriter.of(format, outputStream)) {
+            int[] rowsWritten = {0};
+            containerExportRepository.streamAll(container -> {
+                try {
+                    writer.write(container);
+                    // Push rows to the client progressively instead of only when the buffer fills.
+                    if (++rowsWritten[0] % EXPORT_FLUSH_ROWS == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Error in arguments", e);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The counters and the code prefix index need the code and status being replaced. The UPDATE is
+     * a compare-and-set on the version of the cached container, so when it is current the write is a
+     * single statement; otherwise the row is read, without a lock, and the write retried. The response
+     * is built in memory instead of being read back. A status change must follow the same lifecycle as
+     * {@link #transitionContainer}.
+     */
+    @Override
+    @Transactional
+    @CachePut(cacheNames = Constants.CONTAINER_DETAIL_CACHE, key = "#containerId")
+    public Container updateContainer(int containerId, Container container) {
+        containerCodeKeys.validate(container.getCode());
+        Optional<Container> cachedContainer = containerCodeIndex
+                .findCachedContainer(containerId)
+                .filter(currentContainer -> isStatusChangeAllowed(currentContainer, container));
+        if (cachedContainer.isPresent()) {
+            Container containerUpdated = compareAndUpdate(cachedContainer.get(), container);
+            if (containerUpdated != null) {
+                return containerUpdated;
+            }
+        }
+        // Every failed compare-and-set means another write committed in between, so this terminates.
+        while (true) {
+            Container currentContainer = findExistingContainer(containerId);
+            if (!isStatusChangeAllowed(currentContainer, container)) {
+                throw new IllegalArgumentException(
+                        "Illegal status transition " + currentContainer.getStatus() + " -> " + container.getStatus());
+            }
+            Container containerUpdated = compareAndUpdate(currentContainer, container);
+            if (containerUpdated != null) {
+                return containerUpdated;
             }
-            return containerRepository.save(actualContainer);
         }
-        throw new ContainerException.ContainerNotFoundException("Container with id " + containerId + " not found");
     }
 
+    /**
+     * Optimistic variant: no row lock, the UPDATE only matches while the row is still at the
+     * expected version, so the container read beforehand is exactly the one being replaced.
+     */
     @Override
-    public void deleteContainerById(int containerId) {
-        Optional<Container> retrievedContainer = containerRepository.findById(containerId);
+    @Transactional
+    @CachePut(cacheNames = Constants.CONTAINER_DETAIL_CACHE, key = "#containerId")
+    public Container updateContainer(int containerId, Container container, long expectedVersion) {
+        containerCodeKeys.validate(container.getCode());
+        Container currentContainer = findExistingContainer(containerId);
+        if (currentContainer.getVersion() != expectedVersion) {
+            throw new ContainerException.ContainerVersionMismatchException(
+                    "Container with id " + containerId + " is no longer at version " + expectedVersion);
+        }
+        if (!isStatusChangeAllowed(currentContainer, container)) {
+            throw new IllegalArgumentException(
+                    "Illegal status transition " + currentContainer.getStatus() + " -> " + container.getStatus());
+        }
+        Container containerUpdated = compareAndUpdate(currentContainer, container);
+        if (containerUpdated == null) {
+            throw new ContainerException.ContainerVersionMismatchException(
+                    "Container with id " + containerId + " is no longer at version " + expectedVersion);
+        }
+        return containerUpdated;
+    }
+
+    private Container findExistingContainer(int containerId) {
+        return containerRepository
+                .findById(containerId)
+                .orElseThrow(() -> new ContainerException.ContainerNotFoundException(
+                        "Container with id " + containerId + " not found"));
+    }
 
-        if (retrievedContainer.isPresent()) {
-            Container actualContainer = retrievedContainer.get();
-            containerRepository.deleteById(actualContainer.getId());
-        } else {
-            throw new ContainerException.ContainerNotFoundException("Container with id " + containerId + " not found");
+    private static boolean isStatusChangeAllowed(Container currentContainer, Container patch) {
+        ContainerStatus from = currentContainer.getStatus();
+        ContainerStatus to = patch.getStatus();
+        return to == null || to == from || from.canTransitionTo(to);
+    }
+
+    /** Writes the patch only if the row is still at the version of {@code currentContainer}, else returns null. */
+    private Container compareAndUpdate(Container currentContainer, Container patch) {
+        int updatedRows = containerRepository.updateCodeAndStatusByIdAndVersion(
+                currentContainer.getId(), patch.getCode(), patch.getStatus(), currentContainer.getVersion());
+        if (updatedRows == 0) {
+            return null;
+        }
+        Container containerUpdated = applyPatch(currentContainer, patch);
+        eventPublisher.publishEvent(
+                ContainerEvent.updated(containerUpdated, currentContainer.getCode(), currentContainer.getStatus()));
+        return containerUpdated;
+    }
+
+    private static Container applyPatch(Container currentContainer, Container patch) {
+        return currentContainer
+                .withCode(patch.getCode() != null ? patch.getCode() : currentContainer.getCode())
+                .withStatus(patch.getStatus() != null ? patch.getStatus() : currentContainer.getStatus())
+                .withVersion(currentContainer.getVersion() + 1);
+    }
+
+    @Override
+    @Transactional
+    @Caching(
+            evict =
+                    @CacheEvict(
+                            cacheNames = Constants.CONTAINER_DETAIL_CACHE,
+                            key = "#containerId",
+                            beforeInvocation = true),
+            put = @CachePut(cacheNames = Constants.CONTAINER_DETAIL_CACHE, key = "#containerId"))
+    public Container transitionContainer(int containerId, ContainerTransition transition) {
+        if (transition == null || transition.getFrom() == null || transition.getTo() == null) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        if (!transition.getFrom().canTransitionTo(transition.getTo())) {
+            throw new IllegalArgumentException(
+                    "Illegal status transition " + transition.getFrom() + " -> " + transition.getTo());
+        }
+        // The WHERE status = :expected guard makes this a compare-and-set: of two racing scanners only one wins.
+        int updatedRows =
+                containerRepository.compareAndSetStatus(containerId, transition.getFrom(), transition.getTo());
+        if (updatedRows == 0) {
+            if (!containerRepository.existsById(containerId)) {
+                throw new ContainerException.ContainerNotFoundException(
+                        "Container with id " + containerId + " not found");
+            }
+            throw new ContainerException.ContainerStatusConflictException(
+                    "Container with id " + containerId + " is no longer in status " + transition.getFrom());
+        }
+        Container containerUpdated = containerRepository
+                .findById(containerId)
+                .orElseThrow(() -> new ContainerException.ContainerNotFoundException(
+                        "Container with id " + containerId + " not found"));
+        eventPublisher.publishEvent(ContainerEvent.updated(containerUpdated, transition.getFrom()));
+        return containerUpdated;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = Constants.CONTAINER_DETAIL_CACHE, key = "#containerId")
+    public void deleteContainerById(int containerId) {
+        // The counters need the status that loses the container: as for updates, the DELETE only matches
+        // the version of the cached or freshly read container, and is retried after a concurrent write.
+        Container currentContainer = containerCodeIndex.findCachedContainer(containerId).orElse(null);
+        while (currentContainer == null
+                || containerRepository.deleteContainerByIdAndVersion(containerId, currentContainer.getVersion())
+                        == 0) {
+            currentContainer = findExistingContainer(containerId);
         }
+        eventPublisher.publishEvent(ContainerEvent.deleted(currentContainer));
     }
 }
@@ -0,0 +1,192 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusCount;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Number of containers per status, kept in memory so the yard dashboard never runs a GROUP BY.
+ * Committed writes adjust the counters; the database is counted once at startup and then
+ * periodically to correct any drift.
+ *
+ * <p>The count takes no lock, so commits never wait for it. A commit still between its
+ * {@code beforeCommit} and the moment its changes are added may or may not be in the count; the
+ * changes of those commits are summed while the count runs, and a counter is only corrected by the
+ * part of its drift they cannot explain. Without concurrent commits that is the whole drift.
+ */
+@Component
+public class ContainerStatusCounters {
+    private static final Logger log = LoggerFactory.getLogger(ContainerStatusCounters.class);
+    private static final ContainerStatus[] STATUSES = ContainerStatus.values();
+
+    private final ContainerRepository containerRepository;
+    private final LongAdder[] counters = newAdders();
+    // Only ever growing: the increments and decrements of commits past beforeCommit, and of those since applied.
+    private final LongAdder[] committingIncrements = newAdders();
+    private final LongAdder[] committingDecrements = newAdders();
+    private final LongAdder[] appliedIncrements = newAdders();
+    private final LongAdder[] appliedDecrements = newAdders();
+
+    @Autowired
+    public ContainerStatusCounters(ContainerRepository containerRepository) {
+        this.containerRepository = containerRepository;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STATUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /** Collected per transaction and added once it has committed; applied at once outside a transaction. */
+    @EventListener
+    public void onContainerEvent(ContainerEvent event) {
+        if (!event.isStatusChange()) {
+            return;
+        }
+        long[] delta = new long[STATUSES.length];
+        if (event.getPreviousStatus() != null) {
+            delta[event.getPreviousStatus().ordinal()]--;
+        }
+        if (event.getStatus() != null) {
+            delta[event.getStatus().ordinal()]++;
+        }
+        adjust(delta);
+    }
+
+    /** For containers leaving the table without a status change, such as archived ones. */
+    public void remove(ContainerStatus status, long count) {
+        long[] delta = new long[STATUSES.length];
+        delta[status.ordinal()] = -count;
+        adjust(delta);
+    }
+
+    private void adjust(long[] delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            track(delta, committingIncrements, committingDecrements);
+            add(delta);
+            track(delta, appliedIncrements, appliedDecrements);
+            return;
+        }
+        CommitSynchronization synchronization =
+                (CommitSynchronization) TransactionSynchronizationManager.getResource(this);
+        if (synchronization == null) {
+            synchronization = new CommitSynchronization();
+            TransactionSynchronizationManager.bindResource(this, synchronization);
+            TransactionSynchronizationManager.registerSynchronization(synchronization);
+        }
+        for (int i = 0; i < delta.length; i++) {
+            synchronization.delta[i] += delta[i];
+        }
+    }
+
+    private void add(long[] delta) {
+        for (int i = 0; i < delta.length; i++) {
+            if (delta[i] != 0) {
+                counters[i].add(delta[i]);
+            }
+        }
+    }
+
+    private static void track(long[] delta, LongAdder[] increments, LongAdder[] decrements) {
+        for (int i = 0; i < delta.length; i++) {
+            if (delta[i] > 0) {
+                increments[i].add(delta[i]);
+            } else if (delta[i] < 0) {
+                decrements[i].add(-delta[i]);
+            }
+        }
+    }
+
+    public long count(ContainerStatus status) {
+        return counters[status.ordinal()].sum();
+    }
+
+    public long total() {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${container.status-counters.reconcile-interval:PT5M}",
+            fixedDelayString = "${container.status-counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        // Read before the counters: a commit applied in between is then counted as committing, never missed.
+        long[] appliedIncrementsBefore = sums(appliedIncrements);
+        long[] appliedDecrementsBefore = sums(appliedDecrements);
+        long[] countersBefore = sums(counters);
+        long[] actual = new long[STATUSES.length];
+        // Outside a transaction, so the count is read from the primary.
+        List<ContainerStatusCount> statusCounts = containerRepository.countByStatus();
+        for (ContainerStatusCount statusCount : statusCounts) {
+            actual[statusCount.getStatus().ordinal()] = statusCount.getTotal();
+        }
+        long[] committingIncrementsAfter = sums(committingIncrements);
+        long[] committingDecrementsAfter = sums(committingDecrements);
+        for (int i = 0; i < STATUSES.length; i++) {
+            // The commits in flight during the count that it saw are not in countersBefore but will still be
+            // added, so the true drift lies between drift - their increments and drift + their decrements.
+            long drift = actual[i] - countersBefore[i];
+            long minDrift = drift - (committingIncrementsAfter[i] - appliedIncrementsBefore[i]);
+            long maxDrift = drift + (committingDecrementsAfter[i] - appliedDecrementsBefore[i]);
+            long correction = minDrift > 0 ? minDrift : Math.min(maxDrift, 0);
+            if (correction != 0) {
+                counters[i].add(correction);
+                log.info("Reconciled {} counter by {}", STATUSES[i], correction);
+            }
+        }
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    /** The status changes of one transaction, added after it commits. */
+    private class CommitSynchronization implements TransactionSynchronization {
+        private final long[] delta = new long[STATUSES.length];
+        private boolean committing;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            committing = true;
+            track(delta, committingIncrements, committingDecrements);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ContainerStatusCounters.this);
+            if (status == STATUS_COMMITTED) {
+                add(delta);
+            }
+            if (committing) {
+                track(delta, appliedIncrements, appliedDecrements);
+            }
+        }
+    }
+}
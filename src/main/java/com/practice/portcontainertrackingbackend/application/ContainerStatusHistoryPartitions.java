@@ -0,0 +1,87 @@
+package com.practice.portcontainertrackingbackend.application;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the monthly partitions of {@code container_status_history} ahead of time on PostgreSQL,
+ * where {@code schema-postgresql.sql} created the table partitioned by {@code changed_at}. Rows
+ * falling outside every monthly partition land in the default one. Partitioning is opt-in: without
+ * {@code SPRING_SQL_INIT_MODE=always} Hibernate creates a plain table, and the job then skips with
+ * a warning instead of failing on every run.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.sql.init.platform", havingValue = "postgresql")
+public class ContainerStatusHistoryPartitions {
+    private static final Logger log = LoggerFactory.getLogger(ContainerStatusHistoryPartitions.class);
+    private static final String PARTITIONED_SQL = "SELECT relkind = 'p' FROM pg_class"
+            + " WHERE oid = to_regclass('container_status_history')";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private final JdbcOperations jdbcOperations;
+    private final int monthsAhead;
+    private final Clock clock;
+
+    @Autowired
+    public ContainerStatusHistoryPartitions(
+            JdbcOperations jdbcOperations,
+            @Value("${container.status-history.partitions-ahead:2}") int monthsAhead) {
+        this(jdbcOperations, monthsAhead, Clock.systemUTC());
+    }
+
+    public ContainerStatusHistoryPartitions(JdbcOperations jdbcOperations, int monthsAhead, Clock clock) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.jdbcOperations = jdbcOperations;
+        this.monthsAhead = monthsAhead;
+        this.clock = clock;
+    }
+
+    /** Runs at startup and then periodically; partitions that already exist are left alone. */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${container.status-history.partition-check-interval:PT12H}")
+    public void createUpcomingPartitions() {
+        if (!isPartitioned()) {
+            log.warn("container_status_history is not partitioned, skipping partition creation; set"
+                    + " SPRING_SQL_INIT_MODE=always and SPRING_SQL_INIT_PLATFORM=postgresql on an empty database"
+                    + " to create it partitioned");
+            return;
+        }
+        YearMonth month = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+
+    private boolean isPartitioned() {
+        try {
+            List<Boolean> partitioned = jdbcOperations.queryForList(PARTITIONED_SQL, Boolean.class);
+            return partitioned.contains(Boolean.TRUE);
+        } catch (DataAccessException e) {
+            log.warn("Could not check whether container_status_history is partitioned", e);
+            return false;
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String sql = "CREATE TABLE IF NOT EXISTS container_status_history_" + month.format(PARTITION_SUFFIX)
+                + " PARTITION OF container_status_history FOR VALUES FROM ('" + month.atDay(1)
+                + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')";
+        try {
+            jdbcOperations.execute(sql);
+        } catch (DataAccessException e) {
+            log.warn("Could not create status history partition for {}", month, e);
+        }
+    }
+}
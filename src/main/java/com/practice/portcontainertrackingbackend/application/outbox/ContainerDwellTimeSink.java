@@ -0,0 +1,116 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns each status change of a batch into a dwell time (how long the container stayed in the
+ * status it leaves) and merges them into the hourly sketch of that status. When a container
+ * entered the status was found in the same batch or, failing that, with one history lookup for
+ * the whole batch. Changes whose previous status does not match the history are skipped.
+ */
+@Component
+@ConditionalOnProperty(
+        name = {"container.outbox.enabled", "container.status-history.enabled"},
+        havingValue = "true")
+public class ContainerDwellTimeSink implements ContainerEventSink {
+
+    private final ContainerStatusHistoryRepository containerStatusHistoryRepository;
+    private final ContainerDwellTimeRepository containerDwellTimeRepository;
+
+    @Autowired
+    public ContainerDwellTimeSink(
+            ContainerStatusHistoryRepository containerStatusHistoryRepository,
+            ContainerDwellTimeRepository containerDwellTimeRepository) {
+        this.containerStatusHistoryRepository = containerStatusHistoryRepository;
+        this.containerDwellTimeRepository = containerDwellTimeRepository;
+    }
+
+    @Override
+    public void deliver(List<ContainerEvent> events) {
+        List<ContainerEvent> leavingStatus = events.stream()
+                .filter(event -> event.isStatusChange() && event.getPreviousStatus() != null)
+                .toList();
+        if (leavingStatus.isEmpty()) {
+            return;
+        }
+        Map<Integer, ContainerStatusChange> storedChanges = lastStoredChanges(leavingStatus);
+
+        Map<Integer, ContainerEvent> batchChanges = new HashMap<>();
+        Map<DwellTimeKey, DwellTimeSketch> sketches = new HashMap<>();
+        for (ContainerEvent event : events) {
+            if (!event.isStatusChange()) {
+                continue;
+            }
+            if (event.getPreviousStatus() != null) {
+                Instant enteredAt = enteredAt(
+                        event, batchChanges.get(event.getContainerId()), storedChanges.get(event.getContainerId()));
+                if (enteredAt != null && !enteredAt.isAfter(event.getOccurredAt())) {
+                    sketches.computeIfAbsent(
+                                    new DwellTimeKey(
+                                            event.getPreviousStatus(),
+                                            event.getOccurredAt().truncatedTo(ChronoUnit.HOURS)),
+                                    key -> new DwellTimeSketch())
+                            .add(Duration.between(enteredAt, event.getOccurredAt()));
+                }
+            }
+            batchChanges.put(event.getContainerId(), event);
+        }
+        sketches.forEach(this::merge);
+    }
+
+    private Map<Integer, ContainerStatusChange> lastStoredChanges(List<ContainerEvent> events) {
+        Set<Integer> containerIds =
+                events.stream().map(ContainerEvent::getContainerId).collect(Collectors.toSet());
+        Instant batchStart = events.stream()
+                .map(ContainerEvent::getOccurredAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        return containerStatusHistoryRepository.findLastChangesBefore(containerIds, batchStart).stream()
+                .collect(Collectors.toMap(ContainerStatusChange::getContainerId, change -> change, (a, b) -> a));
+    }
+
+    private static Instant enteredAt(
+            ContainerEvent event, ContainerEvent batchChange, ContainerStatusChange storedChange) {
+        if (batchChange != null) {
+            return batchChange.getStatus() == event.getPreviousStatus() ? batchChange.getOccurredAt() : null;
+        }
+        if (storedChange != null) {
+            return storedChange.getStatus() == event.getPreviousStatus() ? storedChange.getChangedAt() : null;
+        }
+        return null;
+    }
+
+    private void merge(DwellTimeKey key, DwellTimeSketch sketch) {
+        ContainerDwellTime dwellTime = containerDwellTimeRepository
+                .findByStatusAndHourStart(key.status(), key.hourStart())
+                .orElseGet(() -> ContainerDwellTime.builder()
+                        .status(key.status())
+                        .hourStart(key.hourStart())
+                        .build());
+        if (dwellTime.getSketch() != null) {
+            sketch.merge(DwellTimeSketch.fromBytes(dwellTime.getSketch()));
+        }
+        dwellTime.setSketch(sketch.toBytes());
+        containerDwellTimeRepository.save(dwellTime);
+    }
+
+    private record DwellTimeKey(ContainerStatus status, Instant hourStart) {}
+}
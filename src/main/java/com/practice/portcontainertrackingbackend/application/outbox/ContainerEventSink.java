@@ -0,0 +1,13 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import java.util.List;
+
+/**
+ * A system that receives container events from the outbox. Delivery is at least once: when a
+ * sink throws, the whole batch is delivered again to every sink on the next attempt.
+ */
+public interface ContainerEventSink {
+
+    void deliver(List<ContainerEvent> events) throws Exception;
+}
@@ -0,0 +1,135 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Moves outbox events to the sinks in batches: claim up to {@code batch-size} rows, deliver them
+ * to every sink, delete them with one statement, commit. Full batches are followed immediately
+ * by the next one, so throughput grows with the batch size; write transactions never wait on it.
+ *
+ * <p>Relays on several nodes run side by side, but each container is delivered by one relay at a
+ * time: a batch takes every pending event of the containers it claimed, and leaves a container to
+ * the next poll while another relay holds one of its events. The events of a container are
+ * delivered in version order, since ids come from per-node sequence blocks.
+ */
+@Component
+@ConditionalOnProperty(name = "container.outbox.enabled", havingValue = "true")
+public class ContainerOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(ContainerOutboxRelay.class);
+
+    private final ContainerOutboxRepository containerOutboxRepository;
+    private final List<ContainerEventSink> sinks;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    @Autowired
+    public ContainerOutboxRelay(
+            ContainerOutboxRepository containerOutboxRepository,
+            List<ContainerEventSink> sinks,
+            TransactionOperations transactionOperations,
+            @Value("${container.outbox.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.containerOutboxRepository = containerOutboxRepository;
+        this.sinks = sinks;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    /** Relays until the outbox is empty or a sink fails; returns the number of events delivered. */
+    @Scheduled(
+            fixedDelayString = "${container.outbox.poll-interval:PT1S}",
+            scheduler = Constants.OUTBOX_RELAY_SCHEDULER)
+    public int relay() {
+        int delivered = 0;
+        try {
+            Integer batch;
+            do {
+                batch = transactionOperations.execute(status -> relayBatch());
+                delivered += batch == null ? 0 : batch;
+            } while (batch != null && batch >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox delivery failed after {} events, retrying on next poll", delivered, e);
+        }
+        return delivered;
+    }
+
+    private int relayBatch() {
+        List<ContainerOutboxEvent> claimed = containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<ContainerOutboxEvent> batch = ownedEvents(claimed);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<ContainerEvent> events =
+                batch.stream().map(ContainerOutboxEvent::toContainerEvent).toList();
+        for (ContainerEventSink sink : sinks) {
+            try {
+                sink.deliver(events);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Sink " + sink.getClass().getSimpleName() + " failed", e);
+            }
+        }
+        containerOutboxRepository.deleteAllByIdInBatch(
+                batch.stream().map(ContainerOutboxEvent::getId).toList());
+        return batch.size();
+    }
+
+    /**
+     * Every pending event of the claimed containers, except for containers with an event another
+     * relay holds. The events are locked before they are counted, so one committed in between only
+     * defers its container.
+     */
+    private List<ContainerOutboxEvent> ownedEvents(List<ContainerOutboxEvent> claimed) {
+        Set<Integer> containerIds =
+                claimed.stream().map(ContainerOutboxEvent::getContainerId).collect(Collectors.toSet());
+        List<ContainerOutboxEvent> locked = containerOutboxRepository.findByContainerIdIn(containerIds);
+        Map<Integer, Long> lockedPerContainer = locked.stream()
+                .collect(Collectors.groupingBy(ContainerOutboxEvent::getContainerId, Collectors.counting()));
+        Map<Integer, Long> pendingPerContainer =
+                containerOutboxRepository.findContainerIdsOfPendingEvents(containerIds).stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        List<ContainerOutboxEvent> owned = locked.stream()
+                .filter(event -> pendingPerContainer.getOrDefault(event.getContainerId(), 0L)
+                        <= lockedPerContainer.get(event.getContainerId()))
+                .sorted(Comparator.comparingLong(ContainerOutboxEvent::getId))
+                .toList();
+        return inVersionOrderPerContainer(owned);
+    }
+
+    /** Keeps the id order across containers and puts the events of each container in version order. */
+    private static List<ContainerOutboxEvent> inVersionOrderPerContainer(List<ContainerOutboxEvent> events) {
+        Map<Integer, Deque<ContainerOutboxEvent>> byVersion = events.stream()
+                .sorted(Comparator.comparingLong(ContainerOutboxEvent::getVersion))
+                .collect(Collectors.groupingBy(
+                        ContainerOutboxEvent::getContainerId, Collectors.toCollection(ArrayDeque::new)));
+        return events.stream()
+                .map(event -> byVersion.get(event.getContainerId()).removeFirst())
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores every container event in the outbox. It is a plain (not transactional) listener, so it
+ * runs inside the write transaction: the event is stored if and only if the change commits, and
+ * the insert is batched with the container's own statements.
+ */
+@Component
+@ConditionalOnProperty(name = "container.outbox.enabled", havingValue = "true")
+public class ContainerOutboxWriter {
+
+    private final ContainerOutboxRepository containerOutboxRepository;
+
+    @Autowired
+    public ContainerOutboxWriter(ContainerOutboxRepository containerOutboxRepository) {
+        this.containerOutboxRepository = containerOutboxRepository;
+    }
+
+    @EventListener
+    public void onContainerEvent(ContainerEvent event) {
+        containerOutboxRepository.save(ContainerOutboxEvent.of(event));
+    }
+}
@@ -0,0 +1,39 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends the status changes of each outbox batch to the history. It runs in the relay
+ * transaction, so the rows are inserted in JDBC batches and committed together with the deletion
+ * of the outbox rows: every change is recorded exactly once, off the request path.
+ */
+@Component
+@ConditionalOnProperty(
+        name = {"container.outbox.enabled", "container.status-history.enabled"},
+        havingValue = "true")
+public class ContainerStatusHistorySink implements ContainerEventSink {
+
+    private final ContainerStatusHistoryRepository containerStatusHistoryRepository;
+
+    @Autowired
+    public ContainerStatusHistorySink(ContainerStatusHistoryRepository containerStatusHistoryRepository) {
+        this.containerStatusHistoryRepository = containerStatusHistoryRepository;
+    }
+
+    @Override
+    public void deliver(List<ContainerEvent> events) {
+        List<ContainerStatusChange> changes = events.stream()
+                .filter(ContainerEvent::isStatusChange)
+                .map(ContainerStatusChange::of)
+                .toList();
+        if (!changes.isEmpty()) {
+            containerStatusHistoryRepository.saveAll(changes);
+        }
+    }
+}
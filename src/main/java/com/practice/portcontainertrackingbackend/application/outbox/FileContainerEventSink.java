@@ -0,0 +1,41 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Appends each batch to a file as NDJSON, one event per line. */
+@Component
+@ConditionalOnProperty(name = "container.outbox.file-sink.path")
+public class FileContainerEventSink implements ContainerEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public FileContainerEventSink(@Value("${container.outbox.file-sink.path}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<ContainerEvent> events) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(
+                path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ContainerEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.practice.portcontainertrackingbackend.application.outbox;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/** POSTs each batch as a JSON array; any non 2xx answer fails the batch so it is retried. */
+@Component
+@ConditionalOnProperty(name = "container.outbox.http-sink.url")
+public class HttpContainerEventSink implements ContainerEventSink {
+
+    private final RestClient restClient;
+
+    @Autowired
+    public HttpContainerEventSink(
+            RestClient.Builder restClientBuilder,
+            @Value("${container.outbox.http-sink.url}") String url,
+            @Value("${container.outbox.http-sink.timeout:PT5S}") Duration timeout) {
+        this(restClientBuilder.baseUrl(url).requestFactory(requestFactory(timeout)).build());
+    }
+
+    public HttpContainerEventSink(RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return requestFactory;
+    }
+
+    @Override
+    public void deliver(List<ContainerEvent> events) {
+        restClient
+                .post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(events)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,12 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the Caffeine backed caches declared in {@code spring.cache.*}. Size, TTL and statistics
+ * recording are set through {@code spring.cache.caffeine.spec}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {}
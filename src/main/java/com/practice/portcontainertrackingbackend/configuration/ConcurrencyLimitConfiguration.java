@@ -0,0 +1,111 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.presentation.filters.DatabaseConcurrencyLimitFilter;
+import com.practice.portcontainertrackingbackend.utilities.AimdConcurrencyLimit;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "container.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitConfiguration.class);
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_HEADROOM_DIVISOR = 4;
+
+    @Bean
+    public AimdConcurrencyLimit readConcurrencyLimit(
+            ObjectProvider<HikariDataSource> hikariDataSource,
+            @Value("${container.concurrency-limit.max-concurrent:0}") int maxConcurrentRequests,
+            @Value("${container.concurrency-limit.read-latency-threshold:PT0.1S}") Duration latencyThreshold) {
+        return concurrencyLimit(hikariDataSource, maxConcurrentRequests, latencyThreshold);
+    }
+
+    @Bean
+    public AimdConcurrencyLimit writeConcurrencyLimit(
+            ObjectProvider<HikariDataSource> hikariDataSource,
+            @Value("${container.concurrency-limit.max-concurrent:0}") int maxConcurrentRequests,
+            @Value("${container.concurrency-limit.write-latency-threshold:PT0.25S}") Duration latencyThreshold) {
+        return concurrencyLimit(hikariDataSource, maxConcurrentRequests, latencyThreshold);
+    }
+
+    @Bean
+    public FilterRegistrationBean<DatabaseConcurrencyLimitFilter> databaseConcurrencyLimitFilter(
+            @Qualifier("readConcurrencyLimit") AimdConcurrencyLimit readLimit,
+            @Qualifier("writeConcurrencyLimit") AimdConcurrencyLimit writeLimit,
+            ObjectProvider<HikariDataSource> hikariDataSource,
+            @Value("${container.concurrency-limit.max-concurrent:0}") int maxConcurrentRequests) {
+        int maxInFlight = maxInFlight(poolSize(hikariDataSource), maxConcurrentRequests);
+        log.info(
+                "Concurrency limit on: reads and writes start at {} each, at most {} in flight together",
+                readLimit.getLimit(),
+                maxInFlight);
+        FilterRegistrationBean<DatabaseConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new DatabaseConcurrencyLimitFilter(readLimit, writeLimit, maxInFlight));
+        registration.addUrlPatterns(Constants.BASE_URL + "/*");
+        return registration;
+    }
+
+    /** container.concurrency.limit, container.concurrency.in.flight and container.concurrency.rejected by type. */
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(
+            @Qualifier("readConcurrencyLimit") AimdConcurrencyLimit readLimit,
+            @Qualifier("writeConcurrencyLimit") AimdConcurrencyLimit writeLimit) {
+        return registry -> {
+            bind(registry, "read", readLimit);
+            bind(registry, "write", writeLimit);
+        };
+    }
+
+    private static void bind(MeterRegistry registry, String type, AimdConcurrencyLimit limit) {
+        Gauge.builder("container.concurrency.limit", limit, AimdConcurrencyLimit::getLimit)
+                .tag("type", type)
+                .register(registry);
+        Gauge.builder("container.concurrency.in.flight", limit, AimdConcurrencyLimit::getInFlight)
+                .tag("type", type)
+                .register(registry);
+        FunctionCounter.builder("container.concurrency.rejected", limit, AimdConcurrencyLimit::getRejected)
+                .tag("type", type)
+                .register(registry);
+    }
+
+    /** Starts at the pool size and may grow up to the cap shared with the other limit. */
+    private static AimdConcurrencyLimit concurrencyLimit(
+            ObjectProvider<HikariDataSource> hikariDataSource, int maxConcurrentRequests, Duration latencyThreshold) {
+        int poolSize = poolSize(hikariDataSource);
+        int maxLimit = maxInFlight(poolSize, maxConcurrentRequests);
+        return new AimdConcurrencyLimit(Math.min(poolSize, maxLimit), 1, maxLimit, latencyThreshold);
+    }
+
+    /**
+     * The pool is looked up by type: with read replicas the {@code DataSource} is a routing proxy,
+     * and the only Hikari bean is the primary pool, which the replica pools are sized after.
+     */
+    private static int poolSize(ObjectProvider<HikariDataSource> hikariDataSource) {
+        HikariDataSource pool = hikariDataSource.getIfUnique();
+        return pool != null ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * Reads and writes together: the pool plus a quarter of it, for the cache hits that need no
+     * connection, so requests do not pile up on {@code getConnection()} behind the limit.
+     */
+    private static int maxInFlight(int poolSize, int maxConcurrentRequests) {
+        return maxConcurrentRequests > 0
+                ? maxConcurrentRequests
+                : poolSize + Math.max(1, poolSize / DEFAULT_HEADROOM_DIVISOR);
+    }
+}
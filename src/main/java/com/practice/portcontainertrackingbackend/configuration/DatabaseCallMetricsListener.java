@@ -0,0 +1,66 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Counts and times the JDBC statements executed by one Hibernate session, which with open session
+ * in view is one request, and records them when the session ends. Hibernate creates an instance
+ * per session from {@code hibernate.session.events.auto}, so the meters are shared through
+ * {@link #bindTo(MeterRegistry)}; until then nothing is recorded.
+ */
+public class DatabaseCallMetricsListener extends BaseSessionEventListener {
+    private static volatile Meters meters;
+
+    private int statements;
+    private long statementNanos;
+    private long statementStart;
+
+    public static void bindTo(MeterRegistry registry) {
+        meters = new Meters(
+                DistributionSummary.builder("container.db.statements")
+                        .description("JDBC statements executed per request")
+                        .publishPercentileHistogram()
+                        .register(registry),
+                Timer.builder("container.db.time")
+                        .description("Time spent executing JDBC statements per request")
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statements++;
+        statementNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statements++;
+        statementNanos += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void end() {
+        Meters current = meters;
+        if (current != null && statements > 0) {
+            current.statements().record(statements);
+            current.time().record(statementNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record Meters(DistributionSummary statements, Timer time) {}
+}
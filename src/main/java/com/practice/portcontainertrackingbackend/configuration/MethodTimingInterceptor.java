@@ -0,0 +1,69 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Times every call of the advised bean as {@code <metricName>{method, outcome}} with a percentile
+ * histogram ({@code Object} methods are not timed). Timers are registered on the first call of
+ * each method and looked up afterwards, so recording a call does not allocate.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private final String metricName;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, Timer[]> timersByMethod = new ConcurrentHashMap<>();
+
+    public MethodTimingInterceptor(String metricName, Supplier<MeterRegistry> meterRegistry) {
+        this.metricName = metricName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Timer[] timers = timersFor(method);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            timers[SUCCESS].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timers[ERROR].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer[] timersFor(Method method) {
+        Timer[] timers = timersByMethod.get(method);
+        if (timers == null) {
+            timers = timersByMethod.computeIfAbsent(method, this::registerTimers);
+        }
+        return timers;
+    }
+
+    private Timer[] registerTimers(Method method) {
+        MeterRegistry registry = meterRegistry.get();
+        return new Timer[] {registerTimer(registry, method, "SUCCESS"), registerTimer(registry, method, "ERROR")};
+    }
+
+    private Timer registerTimer(MeterRegistry registry, Method method, String outcome) {
+        return Timer.builder(metricName)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerIdempotencyKeyRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Service and repository timers on top of what Spring Boot already publishes (HTTP requests,
+ * Hikari pool, caches). Timing advisors run outermost, so service timings include transactions
+ * and cache hits.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor containerServiceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return timingAdvisor("container.service", new RootClassFilter(ContainerService.class), meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor containerRepositoryTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ClassFilter repositories = ClassFilters.union(new ClassFilter[] {
+            new RootClassFilter(ContainerRepository.class),
+            new RootClassFilter(ContainerExportRepository.class),
+            new RootClassFilter(ContainerStatusHistoryRepository.class),
+            new RootClassFilter(ContainerDwellTimeRepository.class),
+            new RootClassFilter(ContainerOutboxRepository.class),
+            new RootClassFilter(ContainerIdempotencyKeyRepository.class),
+            new RootClassFilter(ContainerArchiveRepository.class)
+        });
+        return timingAdvisor("container.repository", repositories, meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder databaseCallMetrics() {
+        return DatabaseCallMetricsListener::bindTo;
+    }
+
+    private static Advisor timingAdvisor(
+            String metricName, ClassFilter classFilter, ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(classFilter), new MethodTimingInterceptor(metricName, meterRegistry::getObject));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,60 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replicas, round robin, and everything else to the primary.
+ * The transaction is only known to be read-only once it has begun, so this has to sit behind a
+ * {@code LazyConnectionDataSourceProxy} that fetches the connection at the first statement.
+ * Requests marked by {@link ReadYourWrites} stay on the primary; reads sent to a replica are
+ * recorded there, so their results are kept out of the caches.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    private static final int PRIMARY = -1;
+
+    private final List<DataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        ReadYourWrites.markReplicaRead();
+        return Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    /** Closes the replica pools; the primary pool is a bean of its own. */
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
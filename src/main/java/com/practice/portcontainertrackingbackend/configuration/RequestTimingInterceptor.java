@@ -0,0 +1,29 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.utilities.RequestTiming;
+import java.util.function.ObjLongConsumer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/** Adds the duration of each call to a phase of the current request, when it is sampled. */
+public class RequestTimingInterceptor implements MethodInterceptor {
+    private final ObjLongConsumer<RequestTiming> phase;
+
+    public RequestTimingInterceptor(ObjLongConsumer<RequestTiming> phase) {
+        this.phase = phase;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return invocation.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            phase.accept(timing, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * The outbox relay polls every second and the archiver deletes in long batches, so each gets a thread of its own
+ * instead of delaying SSE heartbeats, counter reconciliation and the other jobs on the shared pool.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+    /** Declared here because Boot backs off its own scheduler as soon as any other scheduler bean exists. */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(Constants.OUTBOX_RELAY_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        return singleThreadScheduler("outbox-relay-");
+    }
+
+    @Bean(Constants.ARCHIVE_SCHEDULER)
+    public ThreadPoolTaskScheduler containerArchiveScheduler() {
+        return singleThreadScheduler("container-archive-");
+    }
+
+    private static ThreadPoolTaskScheduler singleThreadScheduler(String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}
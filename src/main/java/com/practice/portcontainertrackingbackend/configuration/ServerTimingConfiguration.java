@@ -0,0 +1,83 @@
+package com.practice.portcontainertrackingbackend.configuration;
+
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerIdempotencyKeyRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import com.practice.portcontainertrackingbackend.presentation.controllers.ServerTimingAdvice;
+import com.practice.portcontainertrackingbackend.presentation.filters.ServerTimingFilter;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.RequestTiming;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.ClassFilters;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Opt-in {@code Server-Timing} header splitting a sample of requests into controller, service,
+ * db (repository calls) and serialization phases.
+ */
+@Configuration
+@ConditionalOnProperty(name = "container.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfiguration implements WebMvcConfigurer {
+    private final ServerTimingAdvice serverTimingAdvice;
+
+    public ServerTimingConfiguration(ServerTimingAdvice serverTimingAdvice) {
+        this.serverTimingAdvice = serverTimingAdvice;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${container.server-timing.sample-rate:1.0}") double sampleRate) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(sampleRate));
+        registration.addUrlPatterns(Constants.BASE_URL + "/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceRequestTimingAdvisor() {
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(ContainerService.class)),
+                new RequestTimingInterceptor(RequestTiming::addServiceTime));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryRequestTimingAdvisor() {
+        return new DefaultPointcutAdvisor(
+                new ComposablePointcut(ClassFilters.union(new ClassFilter[] {
+                    new RootClassFilter(ContainerRepository.class),
+                    new RootClassFilter(ContainerExportRepository.class),
+                    new RootClassFilter(ContainerStatusHistoryRepository.class),
+                    new RootClassFilter(ContainerDwellTimeRepository.class),
+                    new RootClassFilter(ContainerOutboxRepository.class),
+                    new RootClassFilter(ContainerIdempotencyKeyRepository.class),
+                    new RootClassFilter(ContainerArchiveRepository.class)
+                })),
+                new RequestTimingInterceptor(RequestTiming::addRepositoryTime));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(serverTimingAdvice).addPathPatterns(Constants.BASE_URL + "/**");
+    }
+}
@@ -0,0 +1,47 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A container moved out of the {@code container} table some time after it was picked up, keeping
+ * its id. Rows are only written by {@code ContainerArchiveRepository.archive} and never change.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "container_archive")
+public class ArchivedContainer {
+
+    @Id
+    private int id;
+
+    @Column(name = "code", nullable = false)
+    private String code;
+
+    @Column(name = "code_key")
+    private Long codeKey;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus status;
+
+    @Column(name = "status_changed_at", nullable = false)
+    private Instant statusChangedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "archived_at", nullable = false, insertable = false, updatable = false)
+    private Instant archivedAt;
+
+    public Container toContainer() {
+        return new Container(id, code, codeKey, status, statusChangedAt, version);
+    }
+}
@@ -1,7 +1,12 @@
 package com.practice.portcontainertrackingbackend.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
 import jakarta.persistence.*;
+import java.time.Instant;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Setter
 @Getter
@@ -10,17 +15,62 @@ import lombok.*;
 @Builder
 @With
 @Entity
-@Table(name = "container")
+@Table(
+        name = "container",
+        indexes = {
+            @Index(name = "idx_container_code_id", columnList = "code, id"),
+            @Index(name = "idx_container_code_key_id", columnList = "code_key, id"),
+            @Index(name = "idx_container_status_id", columnList = "status, id"),
+            @Index(name = "idx_container_status_changed_at", columnList = "status, status_changed_at")
+        })
 public class Container {
 
+    // A pooled sequence hands out ids in blocks, which lets Hibernate batch inserts; IDENTITY cannot.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "container_seq")
+    @SequenceGenerator(name = "container_seq", sequenceName = "container_seq", allocationSize = 50)
     private int id;
 
     @Column(name = "code", nullable = false)
     private String code;
 
+    // The code packed by Iso6346, null when it is not a valid container number. Lookups by a valid code use
+    // this 8 byte key and its index instead of the string. Kept in step with the code by the callbacks below
+    // and by the bulk UPDATE statements of ContainerRepository.
+    @Column(name = "code_key")
+    @JsonIgnore
+    private Long codeKey;
+
     @Column(name = "status", nullable = false)
     @Enumerated(EnumType.STRING)
     private ContainerStatus status;
+
+    // When the container entered its status, which starts the archive retention of PICKED_UP containers. Set on
+    // insert and by the bulk UPDATE statements of ContainerRepository when the status changes; rows that predate
+    // the column take the time it was added.
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "status_changed_at", nullable = false)
+    @JsonIgnore
+    private Instant statusChangedAt;
+
+    // Bumped by every write, including the bulk UPDATE statements of ContainerRepository. It is the ETag
+    // of the container; clients cannot set it, they send it back in If-Match.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long version;
+
+    @PrePersist
+    void prePersist() {
+        if (statusChangedAt == null) {
+            statusChangedAt = Instant.now();
+        }
+        encodeCode();
+    }
+
+    @PreUpdate
+    void encodeCode() {
+        codeKey = Iso6346.key(code);
+    }
 }
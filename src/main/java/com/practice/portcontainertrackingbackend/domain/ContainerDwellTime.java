@@ -0,0 +1,39 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+/**
+ * Dwell times of the containers that left {@code status} during one hour, as a serialized
+ * {@link DwellTimeSketch}. Each relayed batch merges its dwell times into the row of their hour.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "container_dwell_time",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_container_dwell_time_hour_status",
+                        columnNames = {"hour_start", "status"}))
+public class ContainerDwellTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "container_dwell_time_seq")
+    @SequenceGenerator(name = "container_dwell_time_seq", sequenceName = "container_dwell_time_seq")
+    private long id;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus status;
+
+    @Column(name = "hour_start", nullable = false)
+    private Instant hourStart;
+
+    @Column(name = "sketch", nullable = false, length = 8192)
+    private byte[] sketch;
+}
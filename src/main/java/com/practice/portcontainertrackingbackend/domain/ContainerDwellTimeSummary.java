@@ -0,0 +1,29 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Dwell time distribution of one status over a time range, in seconds. */
+@Getter
+@AllArgsConstructor
+public class ContainerDwellTimeSummary {
+
+    private final long count;
+
+    private final long meanSeconds;
+
+    private final long p50Seconds;
+
+    private final long p95Seconds;
+
+    private final long p99Seconds;
+
+    public static ContainerDwellTimeSummary of(DwellTimeSketch sketch) {
+        return new ContainerDwellTimeSummary(
+                sketch.getCount(),
+                sketch.meanSeconds(),
+                sketch.quantileSeconds(0.50),
+                sketch.quantileSeconds(0.95),
+                sketch.quantileSeconds(0.99));
+    }
+}
@@ -0,0 +1,103 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the write paths of the container service and by the archiver. Listeners that
+ * must only see committed changes use {@code @TransactionalEventListener}.
+ */
+@Getter
+@AllArgsConstructor
+public class ContainerEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        /** Moved to the archive: no longer in the container table, but still found by id. */
+        ARCHIVED
+    }
+
+    private final Type type;
+
+    private final int containerId;
+
+    private final String code;
+
+    /** Code before the change, {@code null} when the container was created. */
+    private final String previousCode;
+
+    /** Status before the change, {@code null} when the container was created. */
+    private final ContainerStatus previousStatus;
+
+    /** Status after the change, {@code null} when the container was deleted. */
+    private final ContainerStatus status;
+
+    /**
+     * Version of the container after the change; a deletion counts as one more write. Orders the
+     * events of one container, which ids and timestamps written by different nodes cannot.
+     */
+    private final long version;
+
+    private final Instant occurredAt;
+
+    public static ContainerEvent created(Container container) {
+        return new ContainerEvent(
+                Type.CREATED,
+                container.getId(),
+                container.getCode(),
+                null,
+                null,
+                container.getStatus(),
+                container.getVersion(),
+                Instant.now());
+    }
+
+    /** An update that kept the code of the container. */
+    public static ContainerEvent updated(Container container, ContainerStatus previousStatus) {
+        return updated(container, container.getCode(), previousStatus);
+    }
+
+    public static ContainerEvent updated(Container container, String previousCode, ContainerStatus previousStatus) {
+        return new ContainerEvent(
+                Type.UPDATED,
+                container.getId(),
+                container.getCode(),
+                previousCode,
+                previousStatus,
+                container.getStatus(),
+                container.getVersion(),
+                Instant.now());
+    }
+
+    public static ContainerEvent deleted(Container container) {
+        return new ContainerEvent(
+                Type.DELETED,
+                container.getId(),
+                container.getCode(),
+                container.getCode(),
+                container.getStatus(),
+                null,
+                container.getVersion() + 1,
+                Instant.now());
+    }
+
+    /** The container keeps its status in the archive, so this is not a status change. */
+    public static ContainerEvent archived(Container container) {
+        return new ContainerEvent(
+                Type.ARCHIVED,
+                container.getId(),
+                container.getCode(),
+                container.getCode(),
+                container.getStatus(),
+                container.getStatus(),
+                container.getVersion() + 1,
+                Instant.now());
+    }
+
+    public boolean isStatusChange() {
+        return previousStatus != status;
+    }
+}
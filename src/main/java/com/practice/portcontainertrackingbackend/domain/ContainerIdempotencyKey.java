@@ -0,0 +1,60 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * The container created for an {@code Idempotency-Key}, written in the same transaction, so a
+ * retry reaching another node or arriving after a restart gets the original response.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "container_idempotency_key",
+        indexes = @Index(name = "idx_container_idempotency_key_created_at", columnList = "created_at"))
+public class ContainerIdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "container_id", nullable = false)
+    private int containerId;
+
+    @Column(name = "code", nullable = false)
+    private String code;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public static ContainerIdempotencyKey of(String idempotencyKey, Container container, Instant createdAt) {
+        return new ContainerIdempotencyKey(
+                idempotencyKey, container.getId(), container.getCode(), container.getStatus(), createdAt);
+    }
+
+    /** The container as it was returned to the first request. */
+    public Container toContainer() {
+        return Container.builder().id(containerId).code(code).status(status).build();
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    /** Keys are only ever inserted, so save() persists without selecting the row first. */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * A {@link ContainerEvent} waiting to be delivered to other systems. Rows are written in the same
+ * transaction as the container change and deleted once every sink has received them.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "container_outbox")
+public class ContainerOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "container_outbox_seq")
+    @SequenceGenerator(name = "container_outbox_seq", sequenceName = "container_outbox_seq", allocationSize = 50)
+    private long id;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ContainerEvent.Type type;
+
+    @Column(name = "container_id", nullable = false)
+    private int containerId;
+
+    @Column(name = "code", nullable = false)
+    private String code;
+
+    @Column(name = "previous_code")
+    private String previousCode;
+
+    @Column(name = "previous_status")
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus previousStatus;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus status;
+
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public static ContainerOutboxEvent of(ContainerEvent event) {
+        return ContainerOutboxEvent.builder()
+                .type(event.getType())
+                .containerId(event.getContainerId())
+                .code(event.getCode())
+                .previousCode(event.getPreviousCode())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .version(event.getVersion())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    public ContainerEvent toContainerEvent() {
+        return new ContainerEvent(type, containerId, code, previousCode, previousStatus, status, version, occurredAt);
+    }
+}
@@ -0,0 +1,15 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ContainerPage {
+
+    private final List<Container> containers;
+
+    /** Opaque token for the next page, or {@code null} when this is the last page. */
+    private final String nextCursor;
+}
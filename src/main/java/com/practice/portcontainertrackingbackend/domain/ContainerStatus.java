@@ -5,5 +5,23 @@ public enum ContainerStatus {
     CUSTOMS_CLEARANCE,
     DECONSOLIDATION,
     READY_FOR_PICKUP,
-    PICKED_UP
+    PICKED_UP;
+
+    // Precomputed [from][to] lookup, so checking a transition never needs the database.
+    private static final boolean[][] ALLOWED_TRANSITIONS = new boolean[values().length][values().length];
+
+    static {
+        allow(UNLOADING, CUSTOMS_CLEARANCE);
+        allow(CUSTOMS_CLEARANCE, DECONSOLIDATION);
+        allow(DECONSOLIDATION, READY_FOR_PICKUP);
+        allow(READY_FOR_PICKUP, PICKED_UP);
+    }
+
+    private static void allow(ContainerStatus from, ContainerStatus to) {
+        ALLOWED_TRANSITIONS[from.ordinal()][to.ordinal()] = true;
+    }
+
+    public boolean canTransitionTo(ContainerStatus target) {
+        return ALLOWED_TRANSITIONS[ordinal()][target.ordinal()];
+    }
 }
@@ -0,0 +1,61 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.*;
+
+/**
+ * One row of the append-only status history. On PostgreSQL the table is partitioned by month of
+ * {@code changed_at} (see {@code schema-postgresql.sql}), so the index being written stays small.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "container_status_history",
+        indexes =
+                @Index(
+                        name = "idx_container_status_history_container_changed_at",
+                        columnList = "container_id, changed_at"))
+public class ContainerStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "container_status_history_seq")
+    @SequenceGenerator(
+            name = "container_status_history_seq",
+            sequenceName = "container_status_history_seq",
+            allocationSize = 50)
+    private long id;
+
+    @Column(name = "container_id", nullable = false)
+    private int containerId;
+
+    @Column(name = "code", nullable = false)
+    private String code;
+
+    /** {@code null} when the container was created. */
+    @Column(name = "previous_status")
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus previousStatus;
+
+    /** {@code null} when the container was deleted. */
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private ContainerStatus status;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    public static ContainerStatusChange of(ContainerEvent event) {
+        return ContainerStatusChange.builder()
+                .containerId(event.getContainerId())
+                .code(event.getCode())
+                .previousStatus(event.getPreviousStatus())
+                .status(event.getStatus())
+                .changedAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+public interface ContainerStatusCount {
+    ContainerStatus getStatus();
+
+    long getTotal();
+}
@@ -0,0 +1,15 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import lombok.*;
+
+/** Status change requested by a scanner: applied only if the container is still in {@code from}. */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContainerTransition {
+
+    private ContainerStatus from;
+
+    private ContainerStatus to;
+}
@@ -0,0 +1,106 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Mergeable histogram of dwell times with logarithmic buckets (the DDSketch layout): any quantile
+ * it returns is within {@link #RELATIVE_ACCURACY} of the exact one, whatever the distribution.
+ * Two sketches merge by adding their buckets, so hourly sketches combine into any time range.
+ * Not thread safe.
+ */
+public class DwellTimeSketch {
+    public static final double RELATIVE_ACCURACY = 0.02;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // Bucket i holds dwell times in (GAMMA^(i-1), GAMMA^i] seconds; longer dwell times go to the last bucket.
+    private static final int BUCKETS = rawBucketOf(Duration.ofDays(3650).toSeconds()) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sumSeconds;
+
+    public void add(Duration dwellTime) {
+        long seconds = Math.max(0, dwellTime.toSeconds());
+        counts[Math.min(rawBucketOf(seconds), BUCKETS - 1)]++;
+        count++;
+        sumSeconds += seconds;
+    }
+
+    public void merge(DwellTimeSketch other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sumSeconds += other.sumSeconds;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long meanSeconds() {
+        return count == 0 ? 0 : sumSeconds / count;
+    }
+
+    /** The {@code quantile} (0 to 1) of the dwell times in seconds, or 0 when the sketch is empty. */
+    public long quantileSeconds(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        int bucket = 0;
+        while (bucket < BUCKETS - 1 && (seen += counts[bucket]) < rank) {
+            bucket++;
+        }
+        return bucket == 0 ? 1 : Math.round(2 * Math.pow(GAMMA, bucket) / (GAMMA + 1));
+    }
+
+    /** Count, sum and the non empty buckets only: a few hundred bytes for a typical hour. */
+    public byte[] toBytes() {
+        int nonEmptyBuckets = 0;
+        for (long bucketCount : counts) {
+            if (bucketCount != 0) {
+                nonEmptyBuckets++;
+            }
+        }
+        ByteBuffer buffer =
+                ByteBuffer.allocate(2 * Long.BYTES + Integer.BYTES + nonEmptyBuckets * (Short.BYTES + Long.BYTES));
+        buffer.putLong(count).putLong(sumSeconds).putInt(nonEmptyBuckets);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                buffer.putShort((short) i).putLong(counts[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static DwellTimeSketch fromBytes(byte[] bytes) {
+        DwellTimeSketch sketch = new DwellTimeSketch();
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            sketch.count = buffer.getLong();
+            sketch.sumSeconds = buffer.getLong();
+            int nonEmptyBuckets = buffer.getInt();
+            for (int i = 0; i < nonEmptyBuckets; i++) {
+                int bucket = buffer.getShort();
+                if (bucket < 0 || bucket >= BUCKETS) {
+                    throw new IllegalArgumentException("Invalid dwell time sketch");
+                }
+                sketch.counts[bucket] = buffer.getLong();
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid dwell time sketch", e);
+        }
+        return sketch;
+    }
+
+    private static int rawBucketOf(long seconds) {
+        return seconds <= 1 ? 0 : (int) Math.ceil(Math.log(seconds) / LOG_GAMMA);
+    }
+}
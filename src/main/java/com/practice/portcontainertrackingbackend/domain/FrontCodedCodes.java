@@ -0,0 +1,224 @@
+package com.practice.portcontainertrackingbackend.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Immutable sorted set of container codes, each with the number of containers carrying it, packed
+ * into one byte array with front coding. Codes are grouped in blocks of {@link #BLOCK_SIZE}: the
+ * first code of a block is stored whole, the others as the length of the prefix they share with
+ * the code before them plus the remaining bytes. Sorted codes share most of their owner code and
+ * serial number, so a code takes a few bytes instead of a {@code String} of about 56. Lengths and
+ * counts are varints, one byte each in practice.
+ *
+ * <p>A prefix lookup binary searches the block heads and decodes forward from the block found, so
+ * it touches at most one block of codes before the first match.
+ */
+public final class FrontCodedCodes {
+    public static final int BLOCK_SIZE = 16;
+    public static final FrontCodedCodes EMPTY = builder().build();
+
+    // Object and array headers, counted so that the footprint of small sets is not understated.
+    private static final int OVERHEAD_BYTES = 64;
+
+    private final byte[] data;
+    private final int[] blockOffsets;
+    private final int size;
+
+    private FrontCodedCodes(byte[] data, int[] blockOffsets, int size) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Number of distinct codes. */
+    public int size() {
+        return size;
+    }
+
+    /** Heap taken by the set. */
+    public long sizeInBytes() {
+        return data.length + 4L * blockOffsets.length + OVERHEAD_BYTES;
+    }
+
+    /** Cursor over the codes in order, starting at the first one that is not less than {@code from}. */
+    public Cursor seek(String from) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        int block = 0;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (blockHead(middle).compareTo(from) < 0) {
+                block = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return new Cursor(block, from);
+    }
+
+    /** A new set with the count changes applied; codes whose count drops to zero or below are left out. */
+    public FrontCodedCodes merge(SortedMap<String, Integer> changes) {
+        Builder builder = builder();
+        Cursor cursor = seek("");
+        Iterator<Map.Entry<String, Integer>> changeIterator = changes.entrySet().iterator();
+        boolean hasCode = cursor.next();
+        Map.Entry<String, Integer> change = changeIterator.hasNext() ? changeIterator.next() : null;
+        while (hasCode || change != null) {
+            int order = !hasCode ? 1 : change == null ? -1 : cursor.code().compareTo(change.getKey());
+            String code = order <= 0 ? cursor.code() : change.getKey();
+            int count = 0;
+            if (order <= 0) {
+                count += cursor.count();
+                hasCode = cursor.next();
+            }
+            if (order >= 0) {
+                count += change.getValue();
+                change = changeIterator.hasNext() ? changeIterator.next() : null;
+            }
+            if (count > 0) {
+                builder.add(code, count);
+            }
+        }
+        return builder.build();
+    }
+
+    private String blockHead(int block) {
+        Cursor cursor = new Cursor(block, "");
+        cursor.next();
+        return cursor.code();
+    }
+
+    /** Decodes codes forward; {@link #next()} must be called before reading the first one. */
+    public final class Cursor {
+        private final String from;
+        private int index;
+        private int position;
+        private byte[] current = new byte[32];
+        private String code;
+        private int count;
+
+        private Cursor(int block, String from) {
+            this.from = from;
+            this.index = block * BLOCK_SIZE;
+            this.position = size == 0 ? 0 : blockOffsets[block];
+        }
+
+        public boolean next() {
+            do {
+                if (index >= size) {
+                    code = null;
+                    return false;
+                }
+                int shared = readVarint();
+                int suffixLength = readVarint();
+                count = readVarint();
+                int length = shared + suffixLength;
+                if (length > current.length) {
+                    current = Arrays.copyOf(current, Math.max(length, current.length * 2));
+                }
+                System.arraycopy(data, position, current, shared, suffixLength);
+                position += suffixLength;
+                index++;
+                code = new String(current, 0, length, StandardCharsets.UTF_8);
+            } while (code.compareTo(from) < 0);
+            return true;
+        }
+
+        public String code() {
+            return code;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    public static final class Builder {
+        private byte[] data = new byte[1024];
+        private int length;
+        private int[] blockOffsets = new int[64];
+        private int size;
+        private byte[] previous = new byte[0];
+        private String previousCode;
+
+        private Builder() {}
+
+        /**
+         * Appends the code if it sorts after the last one added ({@link String#compareTo} order);
+         * returns {@code false} and adds nothing otherwise.
+         */
+        public boolean add(String code, int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException("Error in arguments");
+            }
+            if (previousCode != null && code.compareTo(previousCode) <= 0) {
+                return false;
+            }
+            byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+            int shared = 0;
+            if (size % BLOCK_SIZE == 0) {
+                int block = size / BLOCK_SIZE;
+                if (block == blockOffsets.length) {
+                    blockOffsets = Arrays.copyOf(blockOffsets, blockOffsets.length * 2);
+                }
+                blockOffsets[block] = length;
+            } else {
+                int maxShared = Math.min(previous.length, bytes.length);
+                while (shared < maxShared && previous[shared] == bytes[shared]) {
+                    shared++;
+                }
+            }
+            ensureCapacity(15 + bytes.length - shared);
+            writeVarint(shared);
+            writeVarint(bytes.length - shared);
+            writeVarint(count);
+            System.arraycopy(bytes, shared, data, length, bytes.length - shared);
+            length += bytes.length - shared;
+            previous = bytes;
+            previousCode = code;
+            size++;
+            return true;
+        }
+
+        public FrontCodedCodes build() {
+            int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            return new FrontCodedCodes(Arrays.copyOf(data, length), Arrays.copyOf(blockOffsets, blocks), size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > data.length) {
+                // Grows by half rather than doubling: at tens of millions of codes the array is large.
+                data = Arrays.copyOf(data, Math.max(length + extra, data.length + (data.length >> 1)));
+            }
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7f) != 0) {
+                data[length++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
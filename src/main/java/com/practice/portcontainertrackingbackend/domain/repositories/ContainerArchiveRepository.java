@@ -0,0 +1,26 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.ArchivedContainer;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ContainerArchiveRepository extends JpaRepository<ArchivedContainer, Integer> {
+
+    @Transactional(readOnly = true)
+    Optional<ArchivedContainer> findById(Integer id);
+
+    /**
+     * Copies the containers with the given ids into the archive in one INSERT ... SELECT and returns the number of
+     * rows copied; {@code archived_at} takes its column default.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ArchivedContainer (id, code, codeKey, status, statusChangedAt, version) "
+            + "SELECT c.id, c.code, c.codeKey, c.status, c.statusChangedAt, c.version FROM Container c "
+            + "WHERE c.id IN :ids")
+    int archive(@Param("ids") List<Integer> ids);
+}
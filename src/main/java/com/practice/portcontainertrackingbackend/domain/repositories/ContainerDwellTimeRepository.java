@@ -0,0 +1,21 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ContainerDwellTimeRepository extends JpaRepository<ContainerDwellTime, Long> {
+
+    /** Row-locked, so relays on several nodes merge into the same hour one after the other. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ContainerDwellTime> findByStatusAndHourStart(ContainerStatus status, Instant hourStart);
+
+    @Transactional(readOnly = true)
+    List<ContainerDwellTime> findByHourStartGreaterThanEqualAndHourStartLessThan(Instant from, Instant to);
+}
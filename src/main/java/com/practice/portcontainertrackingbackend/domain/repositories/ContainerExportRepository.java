@@ -0,0 +1,79 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the whole container table through a forward only JDBC cursor. Rows are handed to the
+ * consumer one at a time and are never attached to a persistence context, so memory stays flat
+ * regardless of the table size.
+ *
+ * <p>PostgreSQL only honours the fetch size when auto-commit is off, so callers must run inside a
+ * transaction.
+ */
+@Repository
+public class ContainerExportRepository {
+    private static final String SELECT_ALL_CONTAINERS = "SELECT id, code, status FROM container ORDER BY id";
+    private static final String SELECT_CODE_COUNTS = "SELECT code, COUNT(*) AS total FROM container GROUP BY code";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ContainerExportRepository(
+            DataSource dataSource, @Value("${container.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamAll(Consumer<Container> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            SELECT_ALL_CONTAINERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(jdbcTemplate.getFetchSize());
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(Container.builder()
+                            .id(resultSet.getInt("id"))
+                            .code(resultSet.getString("code"))
+                            .status(ContainerStatus.valueOf(resultSet.getString("status")))
+                            .build());
+                });
+    }
+
+    /**
+     * Every distinct code with its number of containers, in {@link String#compareTo} order. PostgreSQL
+     * sorts text by the collation of the database, so there the byte order of the "C" collation is
+     * asked for.
+     */
+    public void streamCodeCounts(ObjIntConsumer<String> consumer) {
+        String orderBy = isPostgreSQL() ? " ORDER BY code COLLATE \"C\"" : " ORDER BY code";
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            SELECT_CODE_COUNTS + orderBy, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(jdbcTemplate.getFetchSize());
+                    return statement;
+                },
+                resultSet -> {
+                    consumer.accept(resultSet.getString("code"), resultSet.getInt("total"));
+                });
+    }
+
+    private boolean isPostgreSQL() {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equals(productName);
+    }
+}
@@ -0,0 +1,16 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerIdempotencyKey;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ContainerIdempotencyKeyRepository extends JpaRepository<ContainerIdempotencyKey, String> {
+
+    /** Deletes in one statement and returns the number of keys removed. */
+    @Modifying
+    @Query("DELETE FROM ContainerIdempotencyKey k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
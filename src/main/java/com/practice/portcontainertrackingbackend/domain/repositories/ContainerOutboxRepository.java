@@ -0,0 +1,36 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ContainerOutboxRepository extends JpaRepository<ContainerOutboxEvent, Long> {
+
+    /**
+     * Claims the oldest pending events for the rest of the transaction. Hibernate adds {@code SKIP
+     * LOCKED} on databases that support it, so relays on other nodes take the next events instead
+     * of waiting for these.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    List<ContainerOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+
+    /** Claims every pending event of the given containers, skipping the ones another relay holds. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    List<ContainerOutboxEvent> findByContainerIdIn(Collection<Integer> containerIds);
+
+    /** The container of every pending event of the given containers, claimed by any relay or not. */
+    @Query("SELECT o.containerId FROM ContainerOutboxEvent o WHERE o.containerId IN :containerIds")
+    List<Integer> findContainerIdsOfPendingEvents(@Param("containerIds") Collection<Integer> containerIds);
+}
@@ -1,17 +1,151 @@
 package com.practice.portcontainertrackingbackend.domain.repositories;
 
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusCount;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ContainerRepository extends JpaRepository<Container, Integer> {
 
     Container save(Container container);
 
+    <S extends Container> List<S> saveAll(Iterable<S> containers);
+
     Optional<Container> findById(Integer id);
 
+    boolean existsById(Integer id);
+
+    /** The same box can visit the terminal more than once, so the most recent registration wins. */
+    @Transactional(readOnly = true)
+    Optional<Container> findFirstByCodeOrderByIdDesc(String code);
+
+    /** Same as {@link #findFirstByCodeOrderByIdDesc} for a code packed by {@link Iso6346}. */
+    @Transactional(readOnly = true)
+    Optional<Container> findFirstByCodeKeyOrderByIdDesc(long codeKey);
+
     List<Container> findAll();
 
+    @Transactional(readOnly = true)
+    List<Container> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    /**
+     * The containers in {@code status} after {@code afterId}, in id order, read from the (status, id) index.
+     * The query builds detached Containers instead of loading managed entities, so a page adds nothing to the
+     * persistence context and needs no dirty checking.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.practice.portcontainertrackingbackend.domain.Container(c.id, c.code, c.codeKey, c.status, "
+            + "c.statusChangedAt, c.version) FROM Container c WHERE c.status = :status AND c.id > :afterId "
+            + "ORDER BY c.id ASC")
+    List<Container> findByStatusAfterId(
+            @Param("status") ContainerStatus status, @Param("afterId") int afterId, Limit limit);
+
+    List<Container> findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    /** Sets the code key of a row written before the column existed, unless its code has changed since. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Container c SET c.codeKey = :codeKey WHERE c.id = :id AND c.code = :code")
+    int updateCodeKeyByIdAndCode(@Param("id") int id, @Param("code") String code, @Param("codeKey") long codeKey);
+
+    /**
+     * Row-locks up to {@code limit} containers that entered {@code status} before {@code before}, oldest first
+     * along the (status, status_changed_at) index, which stops at the first row past {@code before}. Rows locked
+     * by another transaction are skipped rather than waited for, so concurrent archivers and writers never queue
+     * behind each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "" + LockOptions.SKIP_LOCKED))
+    @Query("SELECT c FROM Container c WHERE c.status = :status AND c.statusChangedAt < :before "
+            + "ORDER BY c.statusChangedAt ASC")
+    List<Container> findInStatusBeforeForUpdate(
+            @Param("status") ContainerStatus status, @Param("before") Instant before, Limit limit);
+
+    /** Deletes in one statement and returns the number of rows removed. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Container c WHERE c.id IN :ids")
+    int deleteContainersByIds(@Param("ids") List<Integer> ids);
+
+    @Query("SELECT c.status AS status, COUNT(c) AS total FROM Container c GROUP BY c.status")
+    List<ContainerStatusCount> countByStatus();
+
     void deleteById(Integer id);
+
+    /** Updates the non null fields in one statement and returns the number of rows changed. */
+    default int updateCodeAndStatusById(int id, String code, ContainerStatus status) {
+        return updateCodeAndStatusById(id, code, Iso6346.key(code), status, Instant.now());
+    }
+
+    /**
+     * The code key is only written when the code changes, so it may be null if {@code code} is; the status
+     * time only when the status changes.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Container c SET c.code = COALESCE(:code, c.code), "
+            + "c.codeKey = CASE WHEN c.code = COALESCE(:code, c.code) THEN c.codeKey ELSE :codeKey END, "
+            + "c.status = COALESCE(:status, c.status), "
+            + "c.statusChangedAt = CASE WHEN c.status = COALESCE(:status, c.status) THEN c.statusChangedAt "
+            + "ELSE :now END, c.version = c.version + 1 WHERE c.id = :id")
+    int updateCodeAndStatusById(
+            @Param("id") int id,
+            @Param("code") String code,
+            @Param("codeKey") Long codeKey,
+            @Param("status") ContainerStatus status,
+            @Param("now") Instant now);
+
+    /** Same as {@link #updateCodeAndStatusById} but only while the row is still at {@code version}. */
+    default int updateCodeAndStatusByIdAndVersion(int id, String code, ContainerStatus status, long version) {
+        return updateCodeAndStatusByIdAndVersion(id, code, Iso6346.key(code), status, Instant.now(), version);
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Container c SET c.code = COALESCE(:code, c.code), "
+            + "c.codeKey = CASE WHEN c.code = COALESCE(:code, c.code) THEN c.codeKey ELSE :codeKey END, "
+            + "c.status = COALESCE(:status, c.status), "
+            + "c.statusChangedAt = CASE WHEN c.status = COALESCE(:status, c.status) THEN c.statusChangedAt "
+            + "ELSE :now END, c.version = c.version + 1 WHERE c.id = :id AND c.version = :version")
+    int updateCodeAndStatusByIdAndVersion(
+            @Param("id") int id,
+            @Param("code") String code,
+            @Param("codeKey") Long codeKey,
+            @Param("status") ContainerStatus status,
+            @Param("now") Instant now,
+            @Param("version") long version);
+
+    /** Moves the container to {@code target} only if it is still in {@code expected}. */
+    default int compareAndSetStatus(int id, ContainerStatus expected, ContainerStatus target) {
+        return compareAndSetStatus(id, expected, target, Instant.now());
+    }
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Container c SET c.status = :target, "
+            + "c.statusChangedAt = CASE WHEN c.status = :target THEN c.statusChangedAt ELSE :now END, "
+            + "c.version = c.version + 1 WHERE c.id = :id AND c.status = :expected")
+    int compareAndSetStatus(
+            @Param("id") int id,
+            @Param("expected") ContainerStatus expected,
+            @Param("target") ContainerStatus target,
+            @Param("now") Instant now);
+
+    /**
+     * Deletes in one statement, without loading the entity first, only while the row is still at {@code version},
+     * and returns the number of rows removed.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Container c WHERE c.id = :id AND c.version = :version")
+    int deleteContainerByIdAndVersion(@Param("id") int id, @Param("version") long version);
 }
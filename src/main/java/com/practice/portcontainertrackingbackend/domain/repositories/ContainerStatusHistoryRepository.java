@@ -0,0 +1,37 @@
+package com.practice.portcontainertrackingbackend.domain.repositories;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ContainerStatusHistoryRepository extends JpaRepository<ContainerStatusChange, Long> {
+
+    @Transactional(readOnly = true)
+    List<ContainerStatusChange> findByContainerIdAndChangedAtBetweenOrderByChangedAtAsc(
+            int containerId, Instant from, Instant to);
+
+    /**
+     * The last change of each container at or before {@code at}, in container id order, skipping
+     * containers deleted by then. Both the scan and the correlated lookup walk the
+     * (container_id, changed_at) index, and the {@code changedAt <= :at} bounds prune later partitions.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT h FROM ContainerStatusChange h WHERE h.containerId > :afterId AND h.changedAt <= :at "
+            + "AND h.status IS NOT NULL AND h.changedAt = (SELECT MAX(l.changedAt) FROM ContainerStatusChange l "
+            + "WHERE l.containerId = h.containerId AND l.changedAt <= :at) ORDER BY h.containerId ASC")
+    List<ContainerStatusChange> findStatusesAt(
+            @Param("at") Instant at, @Param("afterId") int afterId, Limit limit);
+
+    /** The last change of each of the containers before {@code before}, one index lookup per container. */
+    @Query("SELECT h FROM ContainerStatusChange h WHERE h.containerId IN :containerIds AND h.changedAt = "
+            + "(SELECT MAX(l.changedAt) FROM ContainerStatusChange l WHERE l.containerId = h.containerId "
+            + "AND l.changedAt < :before)")
+    List<ContainerStatusChange> findLastChangesBefore(
+            @Param("containerIds") Collection<Integer> containerIds, @Param("before") Instant before);
+}
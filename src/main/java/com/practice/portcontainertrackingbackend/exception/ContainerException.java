@@ -6,4 +6,22 @@ public class ContainerException {
             super(message);
         }
     }
+
+    public static class ContainerStatusConflictException extends RuntimeException {
+        public ContainerStatusConflictException(String message) {
+            super(message);
+        }
+    }
+
+    public static class ContainerVersionMismatchException extends RuntimeException {
+        public ContainerVersionMismatchException(String message) {
+            super(message);
+        }
+    }
+
+    public static class IdempotencyKeyReusedException extends RuntimeException {
+        public IdempotencyKeyReusedException(String message) {
+            super(message);
+        }
+    }
 }
@@ -2,66 +2,233 @@ package com.practice.portcontainertrackingbackend.presentation.controllers;
 
 import com.practice.portcontainertrackingbackend.application.ContainerService;
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import com.practice.portcontainertrackingbackend.domain.ContainerPage;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChangePage;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
 import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import com.practice.portcontainertrackingbackend.presentation.events.ContainerEventStream;
 import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.ContainerETags;
+import com.practice.portcontainertrackingbackend.utilities.StackTraceThrottle;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping(Constants.BASE_URL)
 public class ContainerControllerImpl implements ContainerControllers {
     private static final Logger log = LoggerFactory.getLogger(ContainerControllerImpl.class);
     private final ContainerService containerService;
+    private final ContainerEventStream containerEventStream;
+    private final StackTraceThrottle expectedExceptionStackTraces;
 
     @Autowired
-    public ContainerControllerImpl(ContainerService containerService) {
+    public ContainerControllerImpl(
+            ContainerService containerService,
+            ContainerEventStream containerEventStream,
+            @Value("${logging.expected-exceptions.stack-trace-interval:PT1M}") Duration stackTraceInterval) {
         this.containerService = containerService;
+        this.containerEventStream = containerEventStream;
+        this.expectedExceptionStackTraces = new StackTraceThrottle(stackTraceInterval);
     }
 
     @Override
-    public ResponseEntity<Container> createOrder(Container container) {
+    public ResponseEntity<Container> createOrder(String idempotencyKey, Container container) {
         try {
-            Container containerCreated = containerService.createContainer(container);
+            Container containerCreated = idempotencyKey == null
+                    ? containerService.createContainer(container)
+                    : containerService.createContainer(container, idempotencyKey);
             return new ResponseEntity<>(containerCreated, HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
-            log.error("Bad request for create container", e);
+            log.warn("Bad request for create container", expectedExceptionStackTraces.sample(e));
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (ContainerException.IdempotencyKeyReusedException e) {
+            log.warn("Unprocessable create container: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
         } catch (Exception e) {
             log.error("Unexpected error for create container", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    public ResponseEntity<List<Container>> createContainers(List<Container> containers) {
+        try {
+            List<Container> containersCreated = containerService.createContainers(containers);
+            return new ResponseEntity<>(containersCreated, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for bulk create containers");
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Unexpected error for bulk create containers", e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public ResponseEntity<Optional<Container>> getContainer(Integer containerId) {
         Optional<Container> foundContainer = containerService.getContainer(containerId);
+        // With an ETag on the response Spring answers a matching If-None-Match with 304, before serializing.
         return foundContainer
-                .map(container -> new ResponseEntity<>(foundContainer, HttpStatus.OK))
+                .map(container -> ResponseEntity.ok().eTag(ContainerETags.of(container)).body(foundContainer))
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @Override
-    public List<Container> getAllContainers() {
-        return containerService.getAllContainers();
+    public ResponseEntity<Optional<Container>> getContainerByCode(String code) {
+        Optional<Container> foundContainer = containerService.getContainerByCode(code);
+        return foundContainer
+                .map(container -> ResponseEntity.ok().eTag(ContainerETags.of(container)).body(foundContainer))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @Override
-    public ResponseEntity<Container> updateContainer(Integer containerId, Container container) {
+    public ResponseEntity<List<Container>> getAllContainers(String cursor, Integer size, ContainerStatus status) {
         try {
-            Container containerUpdated = containerService.updateContainer(containerId, container);
-            return new ResponseEntity<>(containerUpdated, HttpStatus.OK);
+            int pageSize = size == null ? Constants.DEFAULT_PAGE_SIZE : size;
+            ContainerPage page = status == null
+                    ? containerService.getContainersPage(cursor, pageSize)
+                    : containerService.getContainersPage(status, cursor, pageSize);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(ContainerETags.of(page.getContainers()));
+            if (page.getNextCursor() != null) {
+                response.header(Constants.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getContainers());
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for list containers with cursor: {}", cursor);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Long> countContainers(ContainerStatus status) {
+        return new ResponseEntity<>(containerService.countContainers(status), HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<List<String>> suggestContainerCodes(String prefix, Integer limit) {
+        try {
+            return new ResponseEntity<>(
+                    containerService.suggestContainerCodes(
+                            prefix, limit == null ? Constants.DEFAULT_SUGGESTIONS : limit),
+                    HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for code suggestions with prefix: {}", prefix);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Map<ContainerStatus, Long>> getStatusSummary() {
+        return new ResponseEntity<>(containerService.getStatusSummary(), HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<List<ContainerStatusChange>> getContainerHistory(
+            Integer containerId, Instant from, Instant to) {
+        try {
+            return new ResponseEntity<>(containerService.getContainerHistory(containerId, from, to), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for container history from {} to {}", from, to);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<List<ContainerStatusChange>> getContainerStatusesAt(
+            Instant at, String cursor, Integer size) {
+        try {
+            ContainerStatusChangePage page = containerService.getContainerStatusesAt(
+                    at, cursor, size == null ? Constants.DEFAULT_PAGE_SIZE : size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(Constants.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getChanges());
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for container statuses at {} with cursor: {}", at, cursor);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Map<ContainerStatus, ContainerDwellTimeSummary>> getDwellTimes(Instant from, Instant to) {
+        try {
+            return new ResponseEntity<>(containerService.getDwellTimes(from, to), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for dwell times from {} to {}", from, to);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> streamContainerEvents(Set<ContainerStatus> status, String code) {
+        try {
+            return ResponseEntity.ok()
+                    // Tells nginx not to buffer the stream
+                    .header("X-Accel-Buffering", "no")
+                    .body(containerEventStream.subscribe(status, code));
+        } catch (IllegalStateException e) {
+            log.warn("Rejected event subscriber, {} already connected", containerEventStream.subscriberCount());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportContainers(String format) {
+        ContainerExportFormat exportFormat;
+        try {
+            exportFormat = ContainerExportFormat.fromValue(format);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for export containers with format: {}", format);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        StreamingResponseBody body = outputStream -> containerService.exportContainers(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=containers." + exportFormat.getFileExtension())
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<Container> updateContainer(Integer containerId, String ifMatch, Container container) {
+        try {
+            Long expectedVersion = ifMatch == null ? null : ContainerETags.parseVersion(ifMatch);
+            Container containerUpdated = expectedVersion == null
+                    ? containerService.updateContainer(containerId, container)
+                    : containerService.updateContainer(containerId, container, expectedVersion);
+            return ResponseEntity.ok().eTag(ContainerETags.of(containerUpdated)).body(containerUpdated);
+        } catch (ContainerException.ContainerVersionMismatchException e) {
+            log.warn("Version mismatch for update of container with ID: {}, If-Match: {}", containerId, ifMatch);
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
         } catch (ContainerException.ContainerNotFoundException e) {
-            log.error("Container not found with ID: {}", containerId, e);
+            log.warn("Container not found with ID: {}", containerId, expectedExceptionStackTraces.sample(e));
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (IllegalArgumentException e) {
-            log.warn("Bad request for container with ID: {}", containerId, e);
+            log.warn("Bad request for container with ID: {}", containerId, expectedExceptionStackTraces.sample(e));
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             log.error("Unexpected error for update container with ID: {}", containerId, e);
@@ -69,13 +236,33 @@ public class ContainerControllerImpl implements ContainerControllers {
         }
     }
 
+    @Override
+    public ResponseEntity<Container> transitionContainer(Integer containerId, ContainerTransition transition) {
+        try {
+            Container containerUpdated = containerService.transitionContainer(containerId, transition);
+            return new ResponseEntity<>(containerUpdated, HttpStatus.OK);
+        } catch (ContainerException.ContainerNotFoundException e) {
+            log.warn("Container not found with ID: {}", containerId);
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (ContainerException.ContainerStatusConflictException e) {
+            log.warn("Status conflict for container with ID: {}", containerId);
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalArgumentException e) {
+            log.warn("Bad request for transition of container with ID: {}: {}", containerId, e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("Unexpected error for transition of container with ID: {}", containerId, e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public ResponseEntity<Void> deleteContainer(Integer containerId) {
         try {
             containerService.deleteContainerById(containerId);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (ContainerException.ContainerNotFoundException e) {
-            log.error("Container not found with ID: {}", containerId, e);
+            log.warn("Container not found with ID: {}", containerId, expectedExceptionStackTraces.sample(e));
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (Exception e) {
             log.error("Unexpected error for delete container with ID: {}", containerId, e);
@@ -1,25 +1,87 @@
 package com.practice.portcontainertrackingbackend.presentation.controllers;
 
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
 import com.practice.portcontainertrackingbackend.utilities.Constants;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface ContainerControllers {
 
     @PostMapping(Constants.CREATE_CONTAINER_URL)
-    ResponseEntity<Container> createOrder(@RequestBody Container container);
+    ResponseEntity<Container> createOrder(
+            @RequestHeader(value = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody Container container);
+
+    @PostMapping(Constants.BULK_CREATE_CONTAINER_URL)
+    ResponseEntity<List<Container>> createContainers(@RequestBody List<Container> containers);
 
     @GetMapping(Constants.DETAIL_CONTAINER_URL)
     ResponseEntity<Optional<Container>> getContainer(@PathVariable Integer containerId);
 
+    @GetMapping(Constants.CODE_CONTAINER_URL)
+    ResponseEntity<Optional<Container>> getContainerByCode(@PathVariable String code);
+
     @GetMapping(Constants.LIST_CONTAINER_URL)
-    List<Container> getAllContainers();
+    ResponseEntity<List<Container>> getAllContainers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) ContainerStatus status);
+
+    @GetMapping(Constants.COUNT_CONTAINER_URL)
+    ResponseEntity<Long> countContainers(@RequestParam(required = false) ContainerStatus status);
+
+    @GetMapping(Constants.CODE_SUGGESTIONS_URL)
+    ResponseEntity<List<String>> suggestContainerCodes(
+            @RequestParam String prefix, @RequestParam(required = false) Integer limit);
+
+    @GetMapping(Constants.STATUS_SUMMARY_URL)
+    ResponseEntity<Map<ContainerStatus, Long>> getStatusSummary();
+
+    @GetMapping(Constants.HISTORY_CONTAINER_URL)
+    ResponseEntity<List<ContainerStatusChange>> getContainerHistory(
+            @PathVariable Integer containerId,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to);
+
+    @GetMapping(Constants.STATUS_AT_URL)
+    ResponseEntity<List<ContainerStatusChange>> getContainerStatusesAt(
+            @RequestParam Instant at,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size);
+
+    @GetMapping(Constants.DWELL_TIMES_URL)
+    ResponseEntity<Map<ContainerStatus, ContainerDwellTimeSummary>> getDwellTimes(
+            @RequestParam(required = false) Instant from, @RequestParam(required = false) Instant to);
+
+    @GetMapping(value = Constants.EVENTS_CONTAINER_URL, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    ResponseEntity<SseEmitter> streamContainerEvents(
+            @RequestParam(required = false) Set<ContainerStatus> status, @RequestParam(required = false) String code);
+
+    @GetMapping(Constants.EXPORT_CONTAINER_URL)
+    ResponseEntity<StreamingResponseBody> exportContainers(@RequestParam(defaultValue = "ndjson") String format);
 
     @PutMapping(Constants.UPDATE_CONTAINER_URL)
-    ResponseEntity<Container> updateContainer(@PathVariable Integer containerId, @RequestBody Container container);
+    ResponseEntity<Container> updateContainer(
+            @PathVariable Integer containerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Container container);
+
+    @PostMapping(Constants.TRANSITION_CONTAINER_URL)
+    ResponseEntity<Container> transitionContainer(
+            @PathVariable Integer containerId, @RequestBody ContainerTransition transition);
 
     @DeleteMapping(Constants.DELETE_CONTAINER_URL)
     ResponseEntity<Void> deleteContainer(@PathVariable Integer containerId);
@@ -0,0 +1,108 @@
+package com.practice.portcontainertrackingbackend.presentation.events;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed container changes out to the SSE subscribers whose filter they match. Open
+ * streams are async requests, so thousands of idle subscribers cost memory for their buffers
+ * but no threads; a small pool writes to the subscribers that have pending events.
+ */
+@Component
+public class ContainerEventStream {
+
+    private final Set<ContainerEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Executor sendExecutor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    @Autowired
+    public ContainerEventStream(
+            @Value("${container.events.send-threads:4}") int sendThreads,
+            @Value("${container.events.buffer-size:256}") int bufferSize,
+            @Value("${container.events.max-subscribers:10000}") int maxSubscribers,
+            @Value("${container.events.timeout:PT30M}") Duration timeout) {
+        // Own pool, so slow clients never hold the threads that serve exports and other async requests.
+        this(
+                Executors.newFixedThreadPool(sendThreads, new CustomizableThreadFactory("container-events-")),
+                bufferSize,
+                maxSubscribers,
+                timeout);
+    }
+
+    public ContainerEventStream(Executor sendExecutor, int bufferSize, int maxSubscribers, Duration timeout) {
+        this.sendExecutor = sendExecutor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Opens a stream of the events matching the filter.
+     *
+     * @throws IllegalStateException when this node already serves the maximum number of subscribers
+     */
+    public SseEmitter subscribe(Set<ContainerStatus> statuses, String code) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many event subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ContainerEventSubscription subscription = new ContainerEventSubscription(
+                emitter, statuses == null ? Set.of() : statuses, code, bufferSize, sendExecutor);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        subscriptions.forEach(ContainerEventSubscription::close);
+        subscriptions.clear();
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContainerEvent(ContainerEvent event) {
+        for (ContainerEventSubscription subscription : subscriptions) {
+            if (subscription.matches(event)) {
+                subscription.publish(event);
+            }
+            if (subscription.isClosed()) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${container.events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (ContainerEventSubscription subscription : subscriptions) {
+            subscription.heartbeat();
+            if (subscription.isClosed()) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.practice.portcontainertrackingbackend.presentation.events;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One SSE client. Events are queued in a bounded buffer and written by a pooled thread only
+ * while there is something to send, so an idle subscriber holds no thread. A subscriber whose
+ * buffer overflows is too slow to keep up and is disconnected; the browser's EventSource
+ * reconnects and should re-read the state it shows.
+ */
+public class ContainerEventSubscription {
+
+    private final SseEmitter emitter;
+    private final Set<ContainerStatus> statuses;
+    private final String code;
+    private final BlockingQueue<ContainerEvent> buffer;
+    private final Executor sendExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * @param statuses only events entering or leaving one of these statuses, all when empty
+     * @param code only events of this container code, all when {@code null}
+     */
+    public ContainerEventSubscription(
+            SseEmitter emitter, Set<ContainerStatus> statuses, String code, int bufferSize, Executor sendExecutor) {
+        this.emitter = emitter;
+        this.statuses = statuses;
+        this.code = code;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sendExecutor = sendExecutor;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean matches(ContainerEvent event) {
+        if (code != null && !code.equals(event.getCode())) {
+            return false;
+        }
+        return statuses.isEmpty()
+                || statuses.contains(event.getStatus())
+                || statuses.contains(event.getPreviousStatus());
+    }
+
+    /** Queues the event, or disconnects the subscriber when its buffer is full. */
+    public void publish(ContainerEvent event) {
+        if (closed) {
+            return;
+        }
+        if (!buffer.offer(event)) {
+            close();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    /** Sends an SSE comment, which keeps proxies from closing the connection and detects gone clients. */
+    public void heartbeat() {
+        if (!closed && heartbeatPending.compareAndSet(false, true)) {
+            scheduleDrain();
+        }
+    }
+
+    public void close() {
+        if (!closed) {
+            closed = true;
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sendExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            ContainerEvent event;
+            while (!closed && (event = buffer.poll()) != null) {
+                emitter.send(SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+            if (!closed && heartbeatPending.getAndSet(false)) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed.
+            closed = true;
+            buffer.clear();
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && (!buffer.isEmpty() || heartbeatPending.get())) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.practice.portcontainertrackingbackend.presentation.filters;
+
+import com.practice.portcontainertrackingbackend.utilities.AimdConcurrencyLimit;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control in front of the service layer. Without it, requests beyond what the database
+ * pool can serve queue inside Hikari until its connection timeout and all end as slow 500s; here
+ * they are turned away immediately with 503 and {@code Retry-After} instead. Reads and writes have
+ * their own adaptive limit, so a burst of slow writes does not shut out the reads, and together
+ * they never admit more than {@code maxInFlight}, about the pool size. Responses of 500 and above
+ * count as failures. The event stream and the export are long-lived and are not limited.
+ */
+public class DatabaseConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AimdConcurrencyLimit readLimit;
+    private final AimdConcurrencyLimit writeLimit;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public DatabaseConcurrencyLimitFilter(
+            AimdConcurrencyLimit readLimit, AimdConcurrencyLimit writeLimit, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.endsWith(Constants.EXPORT_CONTAINER_URL) || uri.endsWith(Constants.EVENTS_CONTAINER_URL);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AimdConcurrencyLimit limit = isRead(request) ? readLimit : writeLimit;
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            limit.recordRejected();
+            reject(response);
+            return;
+        }
+        try {
+            if (!limit.tryAcquire()) {
+                reject(response);
+                return;
+            }
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                filterChain.doFilter(request, response);
+                failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+            } finally {
+                limit.release(System.nanoTime() - start, failed);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void reject(HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+}
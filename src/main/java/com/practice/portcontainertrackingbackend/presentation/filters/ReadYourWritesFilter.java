@@ -0,0 +1,76 @@
+package com.practice.portcontainertrackingbackend.presentation.filters;
+
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Keeps a client on the primary database for {@code maxReplicaLag} after its last write, so it
+ * never reads a container older than the one it just wrote. Every write sets a cookie with its
+ * time; reads carrying a recent one are routed to the primary. The cookie is set before the
+ * request runs, since the response may already be committed afterwards.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Duration maxReplicaLag;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration maxReplicaLag) {
+        this(maxReplicaLag, Clock.systemUTC());
+    }
+
+    public ReadYourWritesFilter(Duration maxReplicaLag, Clock clock) {
+        this.maxReplicaLag = maxReplicaLag;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+        if (write) {
+            response.addCookie(lastWriteCookie(now));
+        }
+        if (write || wroteRecently(request, now)) {
+            ReadYourWrites.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private Cookie lastWriteCookie(long now) {
+        Cookie cookie = new Cookie(Constants.LAST_WRITE_COOKIE, Long.toString(now));
+        cookie.setPath(Constants.BASE_URL);
+        cookie.setMaxAge((int) Math.max(1, maxReplicaLag.toSeconds()));
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+
+    /** Timestamps in the future are ignored, so a forged cookie cannot pin a client to the primary. */
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie cookie = WebUtils.getCookie(request, Constants.LAST_WRITE_COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            long lastWrite = Long.parseLong(cookie.getValue());
+            return lastWrite <= now && now - lastWrite < maxReplicaLag.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.practice.portcontainertrackingbackend.presentation.filters;
+
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.RequestTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Adds a {@code Server-Timing} header to a sample of requests. The body of a sampled response is
+ * buffered so the header can still be set after serialization has been timed; requests that are
+ * not sampled pass through untouched. Streamed exports and event streams are never sampled.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return uri.endsWith(Constants.EXPORT_CONTAINER_URL)
+                || uri.endsWith(Constants.EVENTS_CONTAINER_URL)
+                || ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, bufferedResponse);
+        } finally {
+            RequestTiming.end();
+            bufferedResponse.setHeader(Constants.SERVER_TIMING_HEADER, timing.toHeaderValue(System.nanoTime()));
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+}
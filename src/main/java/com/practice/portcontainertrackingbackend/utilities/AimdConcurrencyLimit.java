@@ -0,0 +1,101 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that follows the latency it observes (additive increase, multiplicative
+ * decrease). While requests finish within the latency threshold and at least half the limit is
+ * in use, each one raises the limit by {@code 1 / limit}, so a full limit's worth of fast
+ * responses adds one slot; a slower or failed request cuts it by {@link #BACKOFF_RATIO}, at most
+ * once per threshold period so a burst of slow responses counts as one signal. Requests over the
+ * limit are rejected at once instead of queueing, which keeps the latency of the admitted ones
+ * near the threshold.
+ */
+public class AimdConcurrencyLimit {
+    public static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, System::nanoTime);
+    }
+
+    public AimdConcurrencyLimit(
+            int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, LongSupplier nanoClock) {
+        if (minLimit < 1
+                || initialLimit < minLimit
+                || maxLimit < initialLimit
+                || latencyThreshold.isNegative()
+                || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("Error in arguments");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastDecreaseNanos = nanoClock.getAsLong() - latencyThresholdNanos;
+    }
+
+    /** Admits the request if fewer than {@code limit} are in flight; every admission needs a {@link #release}. */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else if (inFlightBefore * 2 >= limit) {
+            increase();
+        }
+    }
+
+    private synchronized void decrease() {
+        long now = nanoClock.getAsLong();
+        if (now - lastDecreaseNanos < latencyThresholdNanos) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    private synchronized void increase() {
+        limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+
+    /** Counts a request turned away by a cap shared with other limits, before reaching this one. */
+    public void recordRejected() {
+        rejected.increment();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -3,10 +3,38 @@ package com.practice.portcontainertrackingbackend.utilities;
 public class Constants {
     public static final String BASE_URL = "/container";
     public static final String CREATE_CONTAINER_URL = "/api/v1/create";
+    public static final String BULK_CREATE_CONTAINER_URL = "/api/v1/bulk-create";
     public static final String DETAIL_CONTAINER_URL = "/api/v1/detail/{containerId}";
+    public static final String CODE_CONTAINER_URL = "/api/v1/code/{code}";
     public static final String LIST_CONTAINER_URL = "/api/v1/containers";
+    public static final String COUNT_CONTAINER_URL = "/api/v1/containers/count";
     public static final String UPDATE_CONTAINER_URL = "/api/v1/update/{containerId}";
+    public static final String TRANSITION_CONTAINER_URL = "/api/v1/transition/{containerId}";
     public static final String DELETE_CONTAINER_URL = "/api/v1/delete/{containerId}";
+    public static final String EXPORT_CONTAINER_URL = "/api/v1/export";
+    public static final String STATUS_SUMMARY_URL = "/api/v1/status-summary";
+    public static final String EVENTS_CONTAINER_URL = "/api/v1/events";
+    public static final String HISTORY_CONTAINER_URL = "/api/v1/history/{containerId}";
+    public static final String STATUS_AT_URL = "/api/v1/status-at";
+    public static final String DWELL_TIMES_URL = "/api/v1/dwell-times";
+    public static final String CODE_SUGGESTIONS_URL = "/api/v1/code-suggestions";
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_SUGGESTIONS = 100;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String LAST_WRITE_COOKIE = "container-last-write";
+
+    public static final int MAX_BULK_SIZE = 1000;
+
+    public static final String CONTAINER_DETAIL_CACHE = "containerDetail";
+    public static final String CONTAINER_CODE_CACHE = "containerCode";
+
+    public static final String OUTBOX_RELAY_SCHEDULER = "outboxRelayScheduler";
+    public static final String ARCHIVE_SCHEDULER = "containerArchiveScheduler";
 
     private Constants() {}
 }
@@ -0,0 +1,64 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ETags derived from container versions, so they are computed without serializing the body. A
+ * container's ETag is its quoted version; a list gets a weak ETag from a SHA-256 digest of the
+ * ids and versions of its containers, so a changed page cannot pass for the one a client holds.
+ */
+public class ContainerETags {
+    // 128 bits of the digest: collisions stay out of reach and the header stays short.
+    private static final int DIGEST_BYTES = 16;
+
+    private ContainerETags() {}
+
+    public static String of(Container container) {
+        return "\"" + container.getVersion() + "\"";
+    }
+
+    public static String of(List<Container> containers) {
+        MessageDigest digest = sha256();
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + Long.BYTES);
+        for (Container container : containers) {
+            entry.clear();
+            entry.putInt(container.getId()).putLong(container.getVersion());
+            digest.update(entry.array());
+        }
+        byte[] hash = digest.digest();
+        return "W/\"" + HexFormat.of().formatHex(hash, 0, DIGEST_BYTES) + "-" + containers.size() + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the version out of an {@code If-Match} header. Returns {@code null} for {@code *},
+     * which matches any version.
+     */
+    public static Long parseVersion(String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header", e);
+        }
+    }
+}
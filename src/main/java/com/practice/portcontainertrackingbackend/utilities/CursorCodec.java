@@ -0,0 +1,36 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Encodes the last seen container id as an opaque, URL safe cursor so that clients cannot
+ * depend on its format.
+ */
+public class CursorCodec {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {}
+
+    public static String encode(int lastId) {
+        return ENCODER.encodeToString(
+                ByteBuffer.allocate(Integer.BYTES).putInt(lastId).array());
+    }
+
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (bytes.length != Integer.BYTES) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ByteBuffer.wrap(bytes).getInt();
+    }
+}
@@ -0,0 +1,101 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+/**
+ * ISO 6346 container numbers: a three letter owner code, an equipment category (U, J or Z), a six
+ * digit serial number and a check digit, e.g. {@code CSQU3054383}. A valid number packs into a
+ * long as {@code letters * 1_000_000 + serial}, letters read as a base 26 number; the check digit
+ * is implied. Keys sort in the same order as the codes, and nothing here allocates except
+ * {@link #decode(long)}.
+ */
+public class Iso6346 {
+    public static final int LENGTH = 11;
+
+    /** Returned by {@link #encode} for anything that is not a valid container number. */
+    public static final long INVALID = -1;
+
+    private static final int SERIAL_DIGITS = 6;
+    private static final long SERIAL_RANGE = 1_000_000;
+    private static final long MAX_KEY = 26L * 26 * 26 * 26 * SERIAL_RANGE - 1;
+
+    // Letter values of the check digit calculation: A is 10 and multiples of 11 are skipped.
+    private static final int[] LETTER_VALUES = {
+        10, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 34, 35, 36, 37, 38
+    };
+
+    private Iso6346() {}
+
+    public static boolean isValid(CharSequence code) {
+        return encode(code) != INVALID;
+    }
+
+    /** The packed key of {@code code}, or {@link #INVALID} if it is not a valid container number. */
+    public static long encode(CharSequence code) {
+        if (code == null || code.length() != LENGTH) {
+            return INVALID;
+        }
+        long key = 0;
+        int sum = 0;
+        for (int i = 0; i < 4; i++) {
+            char letter = code.charAt(i);
+            if (letter < 'A' || letter > 'Z') {
+                return INVALID;
+            }
+            key = key * 26 + (letter - 'A');
+            sum += LETTER_VALUES[letter - 'A'] << i;
+        }
+        char category = code.charAt(3);
+        if (category != 'U' && category != 'J' && category != 'Z') {
+            return INVALID;
+        }
+        int serial = 0;
+        for (int i = 4; i < LENGTH; i++) {
+            char digit = code.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return INVALID;
+            }
+            if (i < LENGTH - 1) {
+                serial = serial * 10 + (digit - '0');
+                sum += (digit - '0') << i;
+            }
+        }
+        if (code.charAt(LENGTH - 1) - '0' != sum % 11 % 10) {
+            return INVALID;
+        }
+        return key * SERIAL_RANGE + serial;
+    }
+
+    /** Same as {@link #encode} but null for an invalid code, as stored in the code key column. */
+    public static Long key(CharSequence code) {
+        long key = encode(code);
+        return key == INVALID ? null : key;
+    }
+
+    /** Writes the {@link #LENGTH} characters of the code packed in {@code key} into {@code target}. */
+    public static void decode(long key, char[] target, int offset) {
+        if (key < 0 || key > MAX_KEY) {
+            throw new IllegalArgumentException("Invalid container code key " + key);
+        }
+        long serial = key % SERIAL_RANGE;
+        long letters = key / SERIAL_RANGE;
+        int sum = 0;
+        for (int i = 3; i >= 0; i--) {
+            int letter = (int) (letters % 26);
+            letters /= 26;
+            target[offset + i] = (char) ('A' + letter);
+            sum += LETTER_VALUES[letter] << i;
+        }
+        for (int i = 4 + SERIAL_DIGITS - 1; i >= 4; i--) {
+            int digit = (int) (serial % 10);
+            serial /= 10;
+            target[offset + i] = (char) ('0' + digit);
+            sum += digit << i;
+        }
+        target[offset + LENGTH - 1] = (char) ('0' + sum % 11 % 10);
+    }
+
+    public static String decode(long key) {
+        char[] code = new char[LENGTH];
+        decode(key, code, 0);
+        return new String(code);
+    }
+}
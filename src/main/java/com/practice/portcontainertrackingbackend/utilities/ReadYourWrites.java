@@ -0,0 +1,39 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+/**
+ * Marks the request on the current thread as one that has to read from the primary database:
+ * it writes, or its client wrote recently enough that a replica may not have caught up yet.
+ * Also records whether a replica served a read since {@link #resetReplicaRead}, so a result
+ * that may lag behind the primary is not cached for every client.
+ */
+public class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private ReadYourWrites() {}
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void markReplicaRead() {
+        REPLICA_READ.set(Boolean.TRUE);
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get() != null;
+    }
+
+    public static void resetReplicaRead() {
+        REPLICA_READ.remove();
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+        REPLICA_READ.remove();
+    }
+}
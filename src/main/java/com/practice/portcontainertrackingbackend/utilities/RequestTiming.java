@@ -0,0 +1,92 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+/**
+ * Phase timings of the current request, collected only for requests sampled by the
+ * Server-Timing filter. Each phase is reported exclusive of the phases nested in it: service time
+ * excludes repository time, controller time excludes service time.
+ */
+public class RequestTiming {
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long requestStart;
+    private long handlerStart;
+    private long bodyWriteStart;
+    private long handlerEnd;
+    private long serviceNanos;
+    private long repositoryNanos;
+
+    private RequestTiming(long requestStart) {
+        this.requestStart = requestStart;
+    }
+
+    /** Starts collecting timings for the request on the current thread. */
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /** Returns the timings of the current request, or {@code null} when it is not sampled. */
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void markHandlerStart() {
+        handlerStart = System.nanoTime();
+    }
+
+    public void markBodyWriteStart() {
+        bodyWriteStart = System.nanoTime();
+    }
+
+    public void markHandlerEnd() {
+        handlerEnd = System.nanoTime();
+    }
+
+    public void addServiceTime(long nanos) {
+        serviceNanos += nanos;
+    }
+
+    public void addRepositoryTime(long nanos) {
+        repositoryNanos += nanos;
+    }
+
+    /** Formats the phases as a {@code Server-Timing} header value, durations in milliseconds. */
+    public String toHeaderValue(long now) {
+        long controllerNanos = 0;
+        long serializationNanos = 0;
+        if (handlerStart != 0) {
+            long end = handlerEnd != 0 ? handlerEnd : now;
+            long controllerEnd = bodyWriteStart != 0 ? bodyWriteStart : end;
+            controllerNanos = controllerEnd - handlerStart - serviceNanos;
+            serializationNanos = bodyWriteStart != 0 ? end - bodyWriteStart : 0;
+        }
+        StringBuilder header = new StringBuilder(128);
+        appendPhase(header, "controller", controllerNanos);
+        appendPhase(header, "service", serviceNanos - repositoryNanos);
+        appendPhase(header, "db", repositoryNanos);
+        appendPhase(header, "serialization", serializationNanos);
+        appendPhase(header, "total", now - requestStart);
+        return header.toString();
+    }
+
+    private static void appendPhase(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        long micros = Math.max(0, nanos) / 1_000;
+        header.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        header.append(fraction);
+    }
+}
@@ -0,0 +1,43 @@
+package com.practice.portcontainertrackingbackend.utilities;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets through at most one stack trace per exception type and interval, so expected exceptions
+ * (not found, bad request) are still logged on every request but only occasionally with their
+ * stack. Usage: {@code log.warn("Not found: {}", id, throttle.sample(e))} - a {@code null} last
+ * argument is logged as a plain message.
+ */
+public class StackTraceThrottle {
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Class<?>, AtomicLong> nextAllowedByType = new ConcurrentHashMap<>();
+
+    public StackTraceThrottle(Duration interval) {
+        this(interval, System::nanoTime);
+    }
+
+    public StackTraceThrottle(Duration interval, LongSupplier nanoClock) {
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must not be negative");
+        }
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /** Returns the exception when its stack trace may be logged now, otherwise {@code null}. */
+    public Throwable sample(Throwable exception) {
+        AtomicLong nextAllowed =
+                nextAllowedByType.computeIfAbsent(exception.getClass(), type -> new AtomicLong(Long.MIN_VALUE));
+        long now = nanoClock.getAsLong();
+        long next = nextAllowed.get();
+        if (next != Long.MIN_VALUE && now - next < 0) {
+            return null;
+        }
+        return nextAllowed.compareAndSet(next, now + intervalNanos) ? exception : null;
+    }
+}
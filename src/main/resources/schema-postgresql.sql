@@ -0,0 +1,20 @@
+-- Runs before Hibernate's schema update when SPRING_SQL_INIT_MODE=always and SPRING_SQL_INIT_PLATFORM=postgresql.
+-- The status history is partitioned by month of changed_at: inserts only touch the current month's
+-- (container_id, changed_at) index, queries bounded in time skip the other months, and old months can be
+-- detached or dropped instead of deleted row by row. ContainerStatusHistoryPartitions creates the monthly
+-- partitions ahead of time; the default partition only catches rows outside them.
+CREATE SEQUENCE IF NOT EXISTS container_status_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS container_status_history (
+    id bigint NOT NULL,
+    container_id integer NOT NULL,
+    code varchar(255) NOT NULL,
+    previous_status varchar(255),
+    status varchar(255),
+    changed_at timestamp(6) with time zone NOT NULL
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX IF NOT EXISTS idx_container_status_history_container_changed_at
+    ON container_status_history (container_id, changed_at);
+
+CREATE TABLE IF NOT EXISTS container_status_history_default PARTITION OF container_status_history DEFAULT;
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.practice.portcontainertrackingbackend.application.ContainerService;
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
 import com.practice.portcontainertrackingbackend.integration.AbstractionContainerBaseTests;
 import com.practice.portcontainertrackingbackend.utilities.Constants;
 import org.instancio.Instancio;
@@ -175,8 +176,9 @@ public class ContainerControllerITests extends AbstractionContainerBaseTests {
         @Test
         void shouldUpdateWithOkStatusWhenObjectExistsAndIsValid() throws Exception {
             // Given
-            Container savedContainer = containerService.createContainer(container);
-            Container newContainer = generateContainer();
+            Container savedContainer =
+                    containerService.createContainer(container.withStatus(ContainerStatus.UNLOADING));
+            Container newContainer = generateContainer().withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
 
             // When
             ResultActions response = mockMvc.perform(put(serviceUpdateUrl, savedContainer.getId())
@@ -219,6 +221,26 @@ public class ContainerControllerITests extends AbstractionContainerBaseTests {
             response.andExpect(status().isBadRequest());
         }
 
+        @Test
+        void shouldReturnBadRequestWhenStatusChangeSkipsTheLifecycle() throws Exception {
+            // Given
+            Container savedContainer =
+                    containerService.createContainer(container.withStatus(ContainerStatus.UNLOADING));
+            Container newContainer = generateContainer().withStatus(ContainerStatus.PICKED_UP);
+
+            // When
+            ResultActions response = mockMvc.perform(put(serviceUpdateUrl, savedContainer.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newContainer)));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+            assertThat(containerService.getContainer(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getStatus)
+                    .isEqualTo(ContainerStatus.UNLOADING);
+        }
+
         @Test
         void shouldReturnOkAndNotUpdateContainerWhenNullAttributes() throws Exception {
             // Given
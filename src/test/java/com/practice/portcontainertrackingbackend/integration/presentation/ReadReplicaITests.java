@@ -0,0 +1,170 @@
+package com.practice.portcontainertrackingbackend.integration.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.integration.AbstractionContainerBaseTests;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs against two databases: the primary of the base class and a second, independent one
+ * standing in for a replica. Nothing replicates between them, so a read shows which one served it.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureMockMvc
+public class ReadReplicaITests extends AbstractionContainerBaseTests {
+
+    static final PostgreSQLContainer<?> replicaContainer;
+
+    static {
+        replicaContainer = new PostgreSQLContainer<>("postgres:latest")
+                .withDatabaseName("replica")
+                .withUsername("user")
+                .withPassword("password");
+        replicaContainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(replicaContainer::stop));
+    }
+
+    @DynamicPropertySource
+    public static void replicaPropertySource(DynamicPropertyRegistry registry) {
+        registry.add("container.datasource.replicas.urls", replicaContainer::getJdbcUrl);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    public void setup() {
+        replica = new JdbcTemplate(new DriverManagerDataSource(
+                replicaContainer.getJdbcUrl(), replicaContainer.getUsername(), replicaContainer.getPassword()));
+        replica.execute("CREATE TABLE IF NOT EXISTS container (id INTEGER PRIMARY KEY, code VARCHAR(255) NOT NULL, "
+                + "code_key BIGINT, status VARCHAR(255) NOT NULL, "
+                + "status_changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                + "version BIGINT NOT NULL DEFAULT 0)");
+        replica.execute("CREATE TABLE IF NOT EXISTS container_archive (id INTEGER PRIMARY KEY, "
+                + "code VARCHAR(255) NOT NULL, code_key BIGINT, status VARCHAR(255) NOT NULL, "
+                + "status_changed_at TIMESTAMP WITH TIME ZONE NOT NULL, version BIGINT NOT NULL, "
+                + "archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+    }
+
+    @Test
+    void shouldServeReadsFromReplica() throws Exception {
+        // Given
+        replica.update(
+                "INSERT INTO container (id, code, status) VALUES (?, ?, ?) ON CONFLICT DO NOTHING",
+                900001,
+                "REPLICA",
+                ContainerStatus.UNLOADING.name());
+
+        // When
+        MvcResult result = mockMvc.perform(get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, 900001))
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(objectMapper.readValue(result.getResponse().getContentAsString(), Container.class)
+                        .getCode())
+                .isEqualTo("REPLICA");
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() throws Exception {
+        // Given
+        Container container = Container.builder()
+                .code("PRIMARY")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        MvcResult created = mockMvc.perform(post(Constants.BASE_URL + Constants.CREATE_CONTAINER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(container)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        int containerId = objectMapper
+                .readValue(created.getResponse().getContentAsString(), Container.class)
+                .getId();
+        Cookie lastWrite = created.getResponse().getCookie(Constants.LAST_WRITE_COOKIE);
+
+        // When
+        MvcResult fromReplica = mockMvc.perform(get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, containerId))
+                .andReturn();
+        MvcResult fromPrimary = mockMvc.perform(
+                        get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, containerId)
+                                .cookie(lastWrite))
+                .andExpect(jsonPath("$.code", is("PRIMARY")))
+                .andReturn();
+
+        // Then
+        assertThat(lastWrite).isNotNull();
+        assertThat(fromReplica.getResponse().getStatus()).isEqualTo(404);
+        assertThat(fromPrimary.getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotCacheWhatReplicaServed() throws Exception {
+        // Given
+        Container container = Container.builder()
+                .code("FRESH")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        MvcResult created = mockMvc.perform(post(Constants.BASE_URL + Constants.CREATE_CONTAINER_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(container)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        int containerId = objectMapper
+                .readValue(created.getResponse().getContentAsString(), Container.class)
+                .getId();
+        Cookie lastWrite = created.getResponse().getCookie(Constants.LAST_WRITE_COOKIE);
+        replica.update(
+                "INSERT INTO container (id, code, status) VALUES (?, ?, ?)",
+                containerId,
+                "STALE",
+                ContainerStatus.UNLOADING.name());
+
+        // When
+        MvcResult fromReplica = mockMvc.perform(get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, containerId))
+                .andReturn();
+        MvcResult fromPrimary = mockMvc.perform(
+                        get(Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL, containerId)
+                                .cookie(lastWrite))
+                .andReturn();
+
+        // Then
+        assertThat(objectMapper
+                        .readValue(fromReplica.getResponse().getContentAsString(), Container.class)
+                        .getCode())
+                .isEqualTo("STALE");
+        assertThat(objectMapper
+                        .readValue(fromPrimary.getResponse().getContentAsString(), Container.class)
+                        .getCode())
+                .isEqualTo("FRESH");
+    }
+}
@@ -0,0 +1,116 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerArchiver;
+import com.practice.portcontainertrackingbackend.application.ContainerStatusCounters;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+public class ContainerArchiverTests {
+
+    private final Instant now = Instant.parse("2026-10-18T10:00:00Z");
+    private final Instant pickedUpBefore = now.minus(Duration.ofDays(30));
+
+    private ContainerRepository containerRepository;
+    private ContainerArchiveRepository containerArchiveRepository;
+    private ContainerStatusCounters containerStatusCounters;
+    private ApplicationEventPublisher eventPublisher;
+    private ContainerArchiver containerArchiver;
+
+    @BeforeEach
+    public void setup() {
+        containerRepository = mock(ContainerRepository.class);
+        containerArchiveRepository = mock(ContainerArchiveRepository.class);
+        containerStatusCounters = mock(ContainerStatusCounters.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        containerArchiver = new ContainerArchiver(
+                containerRepository,
+                containerArchiveRepository,
+                containerStatusCounters,
+                eventPublisher,
+                TransactionOperations.withoutTransaction(),
+                Duration.ofDays(30),
+                2,
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Container container(int id) {
+        return Container.builder()
+                .id(id)
+                .code("CSQU3054383")
+                .status(ContainerStatus.PICKED_UP)
+                .build();
+    }
+
+    @Test
+    void shouldArchiveInBatchesUntilOneComesBackShort() {
+        // Given
+        given(containerRepository.findInStatusBeforeForUpdate(ContainerStatus.PICKED_UP, pickedUpBefore, Limit.of(2)))
+                .willReturn(List.of(container(1), container(2)), List.of(container(5)));
+        given(containerRepository.deleteContainersByIds(List.of(1, 2))).willReturn(2);
+        given(containerRepository.deleteContainersByIds(List.of(5))).willReturn(1);
+
+        // When
+        long archived = containerArchiver.archive();
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        verify(containerArchiveRepository).archive(List.of(1, 2));
+        verify(containerArchiveRepository).archive(List.of(5));
+        verify(containerStatusCounters).remove(ContainerStatus.PICKED_UP, 2);
+        verify(containerStatusCounters).remove(ContainerStatus.PICKED_UP, 1);
+    }
+
+    @Test
+    void shouldPublishArchivedEventPerContainer() {
+        // Given
+        given(containerRepository.findInStatusBeforeForUpdate(ContainerStatus.PICKED_UP, pickedUpBefore, Limit.of(2)))
+                .willReturn(List.of(container(1), container(2)), List.of());
+        given(containerRepository.deleteContainersByIds(List.of(1, 2))).willReturn(2);
+
+        // When
+        containerArchiver.archive();
+
+        // Then
+        ArgumentCaptor<ContainerEvent> events = ArgumentCaptor.forClass(ContainerEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(ContainerEvent::getType, ContainerEvent::getContainerId, ContainerEvent::isStatusChange)
+                .containsExactly(
+                        tuple(ContainerEvent.Type.ARCHIVED, 1, false), tuple(ContainerEvent.Type.ARCHIVED, 2, false));
+    }
+
+    @Test
+    void shouldArchiveNothingWhenNoContainerIsPastRetention() {
+        // Given
+        given(containerRepository.findInStatusBeforeForUpdate(ContainerStatus.PICKED_UP, pickedUpBefore, Limit.of(2)))
+                .willReturn(List.of());
+
+        // When
+        long archived = containerArchiver.archive();
+
+        // Then
+        assertThat(archived).isZero();
+        verify(containerArchiveRepository, never()).archive(any());
+        verify(containerRepository, never()).deleteContainersByIds(any());
+        verifyNoInteractions(containerStatusCounters, eventPublisher);
+    }
+}
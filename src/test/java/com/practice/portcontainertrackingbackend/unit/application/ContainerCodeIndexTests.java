@@ -0,0 +1,114 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerCodeIndex;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+public class ContainerCodeIndexTests {
+
+    private CacheManager cacheManager;
+
+    private ContainerCodeIndex containerCodeIndex;
+
+    private Container container;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager = new ConcurrentMapCacheManager(Constants.CONTAINER_DETAIL_CACHE, Constants.CONTAINER_CODE_CACHE);
+        containerCodeIndex = new ContainerCodeIndex(cacheManager);
+        container = Container.builder()
+                .id(1)
+                .code("MSKU1234565")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+    }
+
+    @Test
+    void shouldFindRememberedContainerWithoutDatabase() {
+        // Given
+        containerCodeIndex.remember(container);
+
+        // When & Then
+        assertThat(containerCodeIndex.findContainer("MSKU1234565")).contains(container);
+    }
+
+    @Test
+    void shouldMissWhenDetailIsNoLongerCached() {
+        // Given
+        containerCodeIndex.onContainerEvent(ContainerEvent.created(container));
+
+        // When & Then
+        assertThat(containerCodeIndex.findContainer("MSKU1234565")).isEmpty();
+    }
+
+    @Test
+    void shouldMissWhenCachedContainerChangedCode() {
+        // Given
+        containerCodeIndex.remember(container);
+        cacheManager.getCache(Constants.CONTAINER_DETAIL_CACHE).put(1, container.withCode("TGHU9876540"));
+
+        // When & Then
+        assertThat(containerCodeIndex.findContainer("MSKU1234565")).isEmpty();
+    }
+
+    @Test
+    void shouldFindCachedContainerById() {
+        // Given
+        containerCodeIndex.remember(container);
+
+        // When & Then
+        assertThat(containerCodeIndex.findCachedContainer(1)).contains(container);
+        assertThat(containerCodeIndex.findCachedContainer(2)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetCodeWhenContainerDeleted() {
+        // Given
+        containerCodeIndex.remember(container);
+
+        // When
+        containerCodeIndex.onContainerEvent(ContainerEvent.deleted(container));
+
+        // Then
+        assertThat(containerCodeIndex.findContainer("MSKU1234565")).isEmpty();
+    }
+
+    @Test
+    void shouldForgetCodeWhenContainerArchived() {
+        // Given
+        containerCodeIndex.remember(container);
+
+        // When
+        containerCodeIndex.onContainerEvent(ContainerEvent.archived(container));
+
+        // Then
+        assertThat(containerCodeIndex.findContainer("MSKU1234565")).isEmpty();
+    }
+
+    @Test
+    void shouldKeyValidCodesByIso6346Key() {
+        // Given
+        Container freeForm = container.withId(2).withCode("ABC");
+
+        // When
+        containerCodeIndex.remember(container);
+        containerCodeIndex.remember(freeForm);
+
+        // Then
+        Cache codeCache = cacheManager.getCache(Constants.CONTAINER_CODE_CACHE);
+        assertThat(codeCache.get(Iso6346.encode("MSKU1234565"), Integer.class)).isEqualTo(1);
+        assertThat(codeCache.get("MSKU1234565")).isNull();
+        assertThat(codeCache.get("ABC", Integer.class)).isEqualTo(2);
+        assertThat(containerCodeIndex.findContainer("ABC")).contains(freeForm);
+    }
+}
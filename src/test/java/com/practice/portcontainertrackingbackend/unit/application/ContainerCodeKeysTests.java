@@ -0,0 +1,94 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerCodeKeys;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+public class ContainerCodeKeysTests {
+
+    private ContainerRepository containerRepository;
+
+    @BeforeEach
+    public void setup() {
+        containerRepository = mock(ContainerRepository.class);
+    }
+
+    private ContainerCodeKeys containerCodeKeys(boolean strict) {
+        return new ContainerCodeKeys(containerRepository, TransactionOperations.withoutTransaction(), strict, 2);
+    }
+
+    private static Container container(int id, String code) {
+        return Container.builder()
+                .id(id)
+                .code(code)
+                .status(ContainerStatus.UNLOADING)
+                .build();
+    }
+
+    @Nested
+    class Validate {
+
+        @Test
+        void shouldAcceptAnyCodeWhenNotStrict() {
+            // Then
+            assertThatCode(() -> containerCodeKeys(false).validate("ABC")).doesNotThrowAnyException();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenStrictAndCodeIsInvalid() {
+            // Given
+            ContainerCodeKeys containerCodeKeys = containerCodeKeys(true);
+
+            // Then
+            assertThatCode(() -> containerCodeKeys.validate("CSQU3054383")).doesNotThrowAnyException();
+            assertThatCode(() -> containerCodeKeys.validate(null)).doesNotThrowAnyException();
+            assertThatThrownBy(() -> containerCodeKeys.validate("CSQU3054384"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Backfill {
+
+        @Test
+        void shouldSetKeysOfValidCodesInBatches() {
+            // Given
+            ContainerCodeKeys containerCodeKeys = containerCodeKeys(false);
+            given(containerRepository.findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(2)))
+                    .willReturn(List.of(container(1, "CSQU3054383"), container(2, "ABC")));
+            given(containerRepository.findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(2, Limit.of(2)))
+                    .willReturn(List.of(container(5, "MSKU1234565")));
+            given(containerRepository.findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(5, Limit.of(2)))
+                    .willReturn(List.of());
+            given(containerRepository.updateCodeKeyByIdAndCode(anyInt(), anyString(), anyLong()))
+                    .willReturn(1);
+
+            // When
+            boolean backfilledBefore = containerCodeKeys.isBackfilled();
+            containerCodeKeys.backfill();
+
+            // Then
+            assertThat(backfilledBefore).isFalse();
+            assertThat(containerCodeKeys.isBackfilled()).isTrue();
+            verify(containerRepository).updateCodeKeyByIdAndCode(1, "CSQU3054383", Iso6346.encode("CSQU3054383"));
+            verify(containerRepository).updateCodeKeyByIdAndCode(5, "MSKU1234565", Iso6346.encode("MSKU1234565"));
+            verify(containerRepository, never()).updateCodeKeyByIdAndCode(eq(2), anyString(), anyLong());
+        }
+    }
+}
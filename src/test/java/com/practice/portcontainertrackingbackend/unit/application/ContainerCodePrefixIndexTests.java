@@ -0,0 +1,130 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerCodePrefixIndex;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+public class ContainerCodePrefixIndexTests {
+
+    private final Map<String, Integer> table = new LinkedHashMap<>();
+
+    private ContainerExportRepository containerExportRepository;
+
+    private ContainerCodePrefixIndex index;
+
+    @BeforeEach
+    public void setup() {
+        containerExportRepository = mock(ContainerExportRepository.class);
+        doAnswer(invocation -> {
+                    ObjIntConsumer<String> consumer = invocation.getArgument(0);
+                    table.forEach(consumer::accept);
+                    return null;
+                })
+                .when(containerExportRepository)
+                .streamCodeCounts(any());
+        index = new ContainerCodePrefixIndex(containerExportRepository, TransactionOperations.withoutTransaction(), 2);
+        table.put("MSKU1200001", 1);
+        table.put("MSKU1200002", 2);
+        table.put("MSKU1300001", 1);
+        table.put("TGHU0000001", 1);
+        index.build();
+    }
+
+    private static Container container(int id, String code) {
+        return Container.builder()
+                .id(id)
+                .code(code)
+                .status(ContainerStatus.UNLOADING)
+                .build();
+    }
+
+    @Test
+    void shouldSuggestScannedCodesByPrefix() {
+        // Then
+        assertThat(index.suggest("MSKU12", 10)).containsExactly("MSKU1200001", "MSKU1200002");
+        assertThat(index.suggest("MSKU", 2)).containsExactly("MSKU1200001", "MSKU1200002");
+        assertThat(index.suggest("X", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.sizeInBytes()).isPositive();
+    }
+
+    @Test
+    void shouldDropCodeOfArchivedContainer() {
+        // When
+        index.onContainerEvent(ContainerEvent.archived(container(3, "MSKU1300001")));
+
+        // Then
+        assertThat(index.suggest("MSKU13", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldFollowCommittedWritesBeforeAndAfterCompaction() {
+        // Given
+        index.onContainerEvent(ContainerEvent.created(container(10, "MSKU1200000")));
+        index.onContainerEvent(ContainerEvent.deleted(container(1, "MSKU1200001")));
+        index.onContainerEvent(ContainerEvent.updated(
+                container(2, "MSKU1299999"), "MSKU1200002", ContainerStatus.UNLOADING));
+
+        // When
+        String[] beforeCompaction = index.suggest("MSKU12", 10).toArray(String[]::new);
+        index.compact();
+
+        // Then
+        assertThat(beforeCompaction).containsExactly("MSKU1200000", "MSKU1200002", "MSKU1299999");
+        assertThat(index.suggest("MSKU12", 10)).containsExactly("MSKU1200000", "MSKU1200002", "MSKU1299999");
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldIgnoreUpdatesKeepingTheCode() {
+        // Given
+        index.onContainerEvent(ContainerEvent.updated(container(4, "TGHU0000001"), ContainerStatus.UNLOADING));
+
+        // When
+        index.compact();
+
+        // Then
+        assertThat(index.suggest("TGHU", 10)).containsExactly("TGHU0000001");
+    }
+
+    @Test
+    void shouldDropChangesAlreadyInTheRescan() {
+        // Given
+        index.onContainerEvent(ContainerEvent.created(container(10, "MSKU1200000")));
+        table.put("MSKU1200000", 1);
+
+        // When
+        index.rebuild();
+        index.compact();
+
+        // Then
+        assertThat(index.suggest("MSKU1200000", 10)).containsExactly("MSKU1200000");
+        index.onContainerEvent(ContainerEvent.deleted(container(10, "MSKU1200000")));
+        assertThat(index.suggest("MSKU1200000", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldMergeCodesScannedOutOfOrder() {
+        // Given
+        table.put("AAAU0000001", 1);
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.suggest("AAAU", 10)).containsExactly("AAAU0000001");
+        assertThat(index.size()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,48 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerIdSequence;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+
+public class ContainerIdSequenceTests {
+
+    private JdbcOperations jdbcOperations;
+
+    @BeforeEach
+    public void setup() {
+        jdbcOperations = mock(JdbcOperations.class);
+    }
+
+    @Test
+    void shouldMoveSequencePastExistingIdsOnPostgresql() {
+        // Given
+        given(jdbcOperations.queryForList(anyString(), eq(Long.class))).willReturn(List.of(120L));
+        ContainerIdSequence containerIdSequence =
+                new ContainerIdSequence(jdbcOperations, "jdbc:postgresql://localhost:5432/db");
+
+        // When
+        containerIdSequence.align();
+
+        // Then
+        verify(jdbcOperations).queryForList(contains("setval('container_seq'"), eq(Long.class));
+    }
+
+    @Test
+    void shouldDoNothingOnOtherDatabases() {
+        // Given
+        ContainerIdSequence containerIdSequence = new ContainerIdSequence(jdbcOperations, "jdbc:h2:mem:db");
+
+        // When
+        containerIdSequence.align();
+
+        // Then
+        verifyNoInteractions(jdbcOperations);
+    }
+}
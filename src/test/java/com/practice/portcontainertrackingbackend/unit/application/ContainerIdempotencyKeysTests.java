@@ -0,0 +1,208 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerIdempotencyKeys;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerIdempotencyKey;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerIdempotencyKeyRepository;
+import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerIdempotencyKeysTests {
+
+    private static final String KEY = "7c1f3f0e-5d2a-4b8e-9d61-0f0c2b6f5a11";
+
+    @Mock
+    private ContainerIdempotencyKeyRepository containerIdempotencyKeyRepository;
+
+    private ContainerIdempotencyKeys containerIdempotencyKeys;
+
+    private Container request;
+
+    private AtomicInteger creations;
+
+    private Supplier<Container> create;
+
+    @BeforeEach
+    public void setup() {
+        containerIdempotencyKeys = new ContainerIdempotencyKeys(
+                containerIdempotencyKeyRepository,
+                TransactionOperations.withoutTransaction(),
+                100,
+                Duration.ofHours(24));
+        request = Container.builder()
+                .code("MSCU1234565")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        creations = new AtomicInteger();
+        create = () -> request.withId(creations.incrementAndGet());
+    }
+
+    @Nested
+    class CreateOnce {
+        @Test
+        void shouldCreateAndRecordKeyOnFirstRequest() {
+            // When
+            Container created = containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThat(created.getId()).isEqualTo(1);
+            ArgumentCaptor<ContainerIdempotencyKey> recorded = ArgumentCaptor.forClass(ContainerIdempotencyKey.class);
+            verify(containerIdempotencyKeyRepository).saveAndFlush(recorded.capture());
+            assertThat(recorded.getValue().getIdempotencyKey()).isEqualTo(KEY);
+            assertThat(recorded.getValue().getContainerId()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReplayFromMemoryWithoutDatabase() {
+            // Given
+            containerIdempotencyKeys.createOnce(KEY, request, create);
+            clearInvocations(containerIdempotencyKeyRepository);
+
+            // When
+            Container replayed = containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThat(replayed.getId()).isEqualTo(1);
+            assertThat(creations).hasValue(1);
+            verifyNoInteractions(containerIdempotencyKeyRepository);
+        }
+
+        @Test
+        void shouldCollapseConcurrentRequestsIntoOneCreation() throws Exception {
+            // Given
+            CountDownLatch creating = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Supplier<Container> slowCreate = () -> {
+                creating.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return create.get();
+            };
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // When
+            Future<Container> first =
+                    executor.submit(() -> containerIdempotencyKeys.createOnce(KEY, request, slowCreate));
+            creating.await(5, TimeUnit.SECONDS);
+            Future<Container> second =
+                    executor.submit(() -> containerIdempotencyKeys.createOnce(KEY, request, create));
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1);
+            assertThat(second.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1);
+            assertThat(creations).hasValue(1);
+            executor.shutdown();
+        }
+
+        @Test
+        void shouldReplayKeyStoredInDatabase() {
+            // Given
+            given(containerIdempotencyKeyRepository.findById(KEY))
+                    .willReturn(Optional.of(ContainerIdempotencyKey.of(KEY, request.withId(7), Instant.now())));
+
+            // When
+            Container replayed = containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThat(replayed.getId()).isEqualTo(7);
+            assertThat(creations).hasValue(0);
+        }
+
+        @Test
+        void shouldReplayKeyInsertedConcurrentlyByAnotherNode() {
+            // Given
+            given(containerIdempotencyKeyRepository.findById(KEY))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of(ContainerIdempotencyKey.of(KEY, request.withId(7), Instant.now())));
+            given(containerIdempotencyKeyRepository.saveAndFlush(any()))
+                    .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+            // When
+            Container replayed = containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThat(replayed.getId()).isEqualTo(7);
+        }
+
+        @Test
+        void shouldRejectKeyReusedForAnotherContainer() {
+            // Given
+            containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThatThrownBy(() -> containerIdempotencyKeys.createOnce(
+                            KEY, request.withCode("TGHU0000001"), create))
+                    .isInstanceOf(ContainerException.IdempotencyKeyReusedException.class);
+        }
+
+        @Test
+        void shouldNotKeepFailedCreation() {
+            // Given
+            assertThatThrownBy(() -> containerIdempotencyKeys.createOnce(KEY, request, () -> {
+                        throw new IllegalArgumentException("Error in arguments");
+                    }))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            // When
+            Container created = containerIdempotencyKeys.createOnce(KEY, request, create);
+
+            // Then
+            assertThat(created.getId()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenKeyIsInvalid() {
+            // Then
+            assertThatThrownBy(() -> containerIdempotencyKeys.createOnce(" ", request, create))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerIdempotencyKeys.createOnce("k".repeat(256), request, create))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class DeleteExpiredKeys {
+        @Test
+        void shouldDeleteKeysOlderThanRetention() {
+            // Given
+            given(containerIdempotencyKeyRepository.deleteCreatedBefore(any())).willReturn(3);
+
+            // When
+            containerIdempotencyKeys.deleteExpiredKeys();
+
+            // Then
+            ArgumentCaptor<Instant> before = ArgumentCaptor.forClass(Instant.class);
+            verify(containerIdempotencyKeyRepository).deleteCreatedBefore(before.capture());
+            assertThat(before.getValue()).isBefore(Instant.now().minus(Duration.ofHours(23)));
+        }
+    }
+}
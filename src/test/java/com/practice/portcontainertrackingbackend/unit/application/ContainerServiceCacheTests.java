@@ -0,0 +1,194 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerCodeIndex;
+import com.practice.portcontainertrackingbackend.application.ContainerCodeKeys;
+import com.practice.portcontainertrackingbackend.application.ContainerCodePrefixIndex;
+import com.practice.portcontainertrackingbackend.application.ContainerIdempotencyKeys;
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.application.ContainerServiceImpl;
+import com.practice.portcontainertrackingbackend.application.ContainerStatusCounters;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import java.util.Optional;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+public class ContainerServiceCacheTests {
+
+    @Configuration
+    @EnableCaching
+    @Import(ContainerServiceImpl.class)
+    static class CacheTestConfiguration {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(Constants.CONTAINER_DETAIL_CACHE);
+        }
+    }
+
+    @MockBean
+    private ContainerRepository containerRepository;
+
+    @MockBean
+    private ContainerExportRepository containerExportRepository;
+
+    @MockBean
+    private ContainerStatusHistoryRepository containerStatusHistoryRepository;
+
+    @MockBean
+    private ContainerDwellTimeRepository containerDwellTimeRepository;
+
+    @MockBean
+    private ContainerStatusCounters containerStatusCounters;
+
+    @MockBean
+    private ContainerCodeIndex containerCodeIndex;
+
+    @MockBean
+    private ContainerCodePrefixIndex containerCodePrefixIndex;
+
+    @MockBean
+    private ContainerCodeKeys containerCodeKeys;
+
+    @MockBean
+    private ContainerIdempotencyKeys containerIdempotencyKeys;
+
+    @MockBean
+    private ContainerArchiveRepository containerArchiveRepository;
+
+    @Autowired
+    private ContainerService containerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Container container;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(Constants.CONTAINER_DETAIL_CACHE).clear();
+        container = Instancio.create(Container.class).withId(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void shouldReadDatabaseOnlyOnceWhenContainerIsCached() {
+        // Given
+        given(containerRepository.findById(1)).willReturn(Optional.of(container));
+
+        // When
+        containerService.getContainer(1);
+        Optional<Container> containerRetrieved = containerService.getContainer(1);
+
+        // Then
+        verify(containerRepository, times(1)).findById(1);
+        assertThat(containerRetrieved).contains(container);
+    }
+
+    @Test
+    void shouldNotCacheMissingContainer() {
+        // Given
+        given(containerRepository.findById(1)).willReturn(Optional.empty());
+
+        // When
+        containerService.getContainer(1);
+        Optional<Container> containerRetrieved = containerService.getContainer(1);
+
+        // Then
+        verify(containerRepository, times(2)).findById(1);
+        assertThat(containerRetrieved).isEmpty();
+    }
+
+    @Test
+    void shouldNotCacheContainerReadFromReplica() {
+        // Given
+        given(containerRepository.findById(1)).willAnswer(invocation -> {
+            ReadYourWrites.markReplicaRead();
+            return Optional.of(container);
+        });
+
+        // When
+        containerService.getContainer(1);
+        Optional<Container> containerRetrieved = containerService.getContainer(1);
+
+        // Then
+        verify(containerRepository, times(2)).findById(1);
+        assertThat(containerRetrieved).contains(container);
+    }
+
+    @Test
+    void shouldCacheContainerReadFromPrimaryAfterReplicaRead() {
+        // Given
+        ReadYourWrites.markReplicaRead();
+        given(containerRepository.findById(1)).willReturn(Optional.of(container));
+
+        // When
+        containerService.getContainer(1);
+        containerService.getContainer(1);
+
+        // Then
+        verify(containerRepository, times(1)).findById(1);
+    }
+
+    @Test
+    void shouldRefreshCachedContainerWhenUpdated() {
+        // Given
+        container = container.withStatus(ContainerStatus.UNLOADING);
+        Container newContainer = Instancio.create(Container.class).withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
+        given(containerRepository.findById(1)).willReturn(Optional.of(container));
+        given(containerRepository.updateCodeAndStatusByIdAndVersion(anyInt(), any(), any(), anyLong()))
+                .willReturn(1);
+        containerService.getContainer(1);
+
+        // When
+        containerService.updateContainer(1, newContainer);
+        Optional<Container> containerRetrieved = containerService.getContainer(1);
+
+        // Then
+        assertThat(containerRetrieved).isPresent();
+        assertThat(containerRetrieved.get().getCode()).isEqualTo(newContainer.getCode());
+        assertThat(containerRetrieved.get().getStatus()).isEqualTo(newContainer.getStatus());
+    }
+
+    @Test
+    void shouldEvictCachedContainerWhenDeleted() {
+        // Given
+        given(containerRepository.findById(1)).willReturn(Optional.of(container));
+        given(containerRepository.deleteContainerByIdAndVersion(anyInt(), anyLong())).willReturn(1);
+        containerService.getContainer(1);
+
+        // When
+        containerService.deleteContainerById(1);
+        given(containerRepository.findById(1)).willReturn(Optional.empty());
+        Optional<Container> containerRetrieved = containerService.getContainer(1);
+
+        // Then
+        assertThat(containerRetrieved).isEmpty();
+    }
+}
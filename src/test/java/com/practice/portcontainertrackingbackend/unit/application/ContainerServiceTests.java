@@ -2,22 +2,60 @@ package com.practice.portcontainertrackingbackend.unit.application;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
+import com.practice.portcontainertrackingbackend.application.ContainerCodeIndex;
+import com.practice.portcontainertrackingbackend.application.ContainerCodeKeys;
+import com.practice.portcontainertrackingbackend.application.ContainerCodePrefixIndex;
+import com.practice.portcontainertrackingbackend.application.ContainerIdempotencyKeys;
 import com.practice.portcontainertrackingbackend.application.ContainerServiceImpl;
+import com.practice.portcontainertrackingbackend.application.ContainerStatusCounters;
+import com.practice.portcontainertrackingbackend.domain.ArchivedContainer;
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import com.practice.portcontainertrackingbackend.domain.ContainerPage;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChangePage;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
 import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
 import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.CursorCodec;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 public class ContainerServiceTests {
@@ -25,6 +63,36 @@ public class ContainerServiceTests {
     @Mock
     private ContainerRepository containerRepository;
 
+    @Mock
+    private ContainerExportRepository containerExportRepository;
+
+    @Mock
+    private ContainerStatusHistoryRepository containerStatusHistoryRepository;
+
+    @Mock
+    private ContainerDwellTimeRepository containerDwellTimeRepository;
+
+    @Mock
+    private ContainerStatusCounters containerStatusCounters;
+
+    @Mock
+    private ContainerCodeIndex containerCodeIndex;
+
+    @Mock
+    private ContainerCodePrefixIndex containerCodePrefixIndex;
+
+    @Mock
+    private ContainerCodeKeys containerCodeKeys;
+
+    @Mock
+    private ContainerIdempotencyKeys containerIdempotencyKeys;
+
+    @Mock
+    private ContainerArchiveRepository containerArchiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ContainerServiceImpl containerService;
 
@@ -39,6 +107,11 @@ public class ContainerServiceTests {
         container = generateContainer();
     }
 
+    @AfterEach
+    public void tearDown() {
+        ReadYourWrites.clear();
+    }
+
     @Nested
     class CreateContainer {
         @Test
@@ -53,6 +126,7 @@ public class ContainerServiceTests {
 
             // Then
             verify(containerRepository, times(1)).save(container);
+            verify(eventPublisher, times(1)).publishEvent(any(ContainerEvent.class));
             assertThat(containerSaved.getId()).isEqualTo(mockContainer.getId());
         }
 
@@ -80,6 +154,83 @@ public class ContainerServiceTests {
                     .isInstanceOf(IllegalArgumentException.class);
             verify(containerRepository, times(0)).save(container);
         }
+
+        @Test
+        void shouldThrowExceptionWhenCodeIsRejected() {
+            // Given
+            willThrow(IllegalArgumentException.class).given(containerCodeKeys).validate(container.getCode());
+
+            // When And Then
+            assertThatThrownBy(() -> containerService.createContainer(container))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(containerRepository, times(0)).save(container);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldCreateThroughIdempotencyKeys() {
+            // Given
+            Container mockContainer = container.withId(1);
+            given(containerRepository.save(container)).willReturn(mockContainer);
+            given(containerIdempotencyKeys.createOnce(eq("key"), eq(container), any(Supplier.class)))
+                    .willAnswer(arguments -> ((Supplier<Container>) arguments.getArgument(2)).get());
+
+            // When
+            Container containerSaved = containerService.createContainer(container, "key");
+
+            // Then
+            assertThat(containerSaved.getId()).isEqualTo(1);
+            verify(containerRepository, times(1)).save(container);
+        }
+    }
+
+    @Nested
+    class BulkCreateContainer {
+        @Test
+        void shouldCreateAllContainersWithGeneratedIds() {
+            // Given
+            List<Container> manifest = List.of(container, generateContainer());
+            given(containerRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            List<Container> containersSaved = containerService.createContainers(manifest);
+
+            // Then
+            verify(containerRepository, times(1)).saveAll(anyList());
+            verify(eventPublisher, times(2)).publishEvent(any(ContainerEvent.class));
+            assertThat(containersSaved).hasSize(2).extracting(Container::getId).containsOnly(0);
+            assertThat(containersSaved.get(0).getCode()).isEqualTo(container.getCode());
+        }
+
+        @Test
+        void shouldRejectWholeManifestWhenOneContainerIsInvalid() {
+            // Given
+            Container invalidContainer = generateContainer();
+            invalidContainer.setStatus(null);
+            List<Container> manifest = List.of(container, invalidContainer);
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.createContainers(manifest))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verify(containerRepository, times(0)).saveAll(anyList());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenManifestIsEmptyOrTooLarge() {
+            // Given
+            List<Container> tooLarge = Instancio.ofList(Container.class)
+                    .size(Constants.MAX_BULK_SIZE + 1)
+                    .create();
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.createContainers(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.createContainers(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.createContainers(tooLarge))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerRepository);
+        }
     }
 
     @Nested
@@ -112,7 +263,134 @@ public class ContainerServiceTests {
 
             // Then
             verify(containerRepository, times(1)).findById(containerId);
+            verify(containerArchiveRepository, times(1)).findById(containerId);
+            assertThat(containerRetrieved).isEmpty();
+        }
+
+        @Test
+        void shouldRetrieveFromArchiveWhenObjectWasArchived() {
+            // Given
+            int containerId = 1;
+            ArchivedContainer archivedContainer = ArchivedContainer.builder()
+                    .id(containerId)
+                    .code("CSQU3054383")
+                    .codeKey(Iso6346.encode("CSQU3054383"))
+                    .status(ContainerStatus.PICKED_UP)
+                    .statusChangedAt(Instant.parse("2024-01-01T00:00:00Z"))
+                    .version(3)
+                    .build();
+            given(containerRepository.findById(containerId)).willReturn(Optional.empty());
+            given(containerArchiveRepository.findById(containerId)).willReturn(Optional.of(archivedContainer));
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainer(containerId);
+
+            // Then
+            assertThat(containerRetrieved).isPresent();
+            assertThat(containerRetrieved.get().getId()).isEqualTo(containerId);
+            assertThat(containerRetrieved.get().getCode()).isEqualTo("CSQU3054383");
+            assertThat(containerRetrieved.get().getStatus()).isEqualTo(ContainerStatus.PICKED_UP);
+            assertThat(containerRetrieved.get().getVersion()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldNotReadArchiveWhenObjectExists() {
+            // Given
+            int containerId = 1;
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container.withId(containerId)));
+
+            // When
+            containerService.getContainer(containerId);
+
+            // Then
+            verifyNoInteractions(containerArchiveRepository);
+        }
+    }
+
+    @Nested
+    class RetrieveContainerByCode {
+        @Test
+        void shouldRetrieveFromIndexWithoutDatabaseWhenCached() {
+            // Given
+            given(containerCodeIndex.findContainer(container.getCode())).willReturn(Optional.of(container));
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainerByCode(container.getCode());
+
+            // Then
+            assertThat(containerRetrieved).contains(container);
+            verifyNoInteractions(containerRepository);
+        }
+
+        @Test
+        void shouldRetrieveFromDatabaseAndRememberWhenNotCached() {
+            // Given
+            given(containerCodeIndex.findContainer(container.getCode())).willReturn(Optional.empty());
+            given(containerRepository.findFirstByCodeOrderByIdDesc(container.getCode()))
+                    .willReturn(Optional.of(container));
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainerByCode(container.getCode());
+
+            // Then
+            assertThat(containerRetrieved).contains(container);
+            verify(containerCodeIndex, times(1)).remember(container);
+        }
+
+        @Test
+        void shouldNotRememberContainerReadFromReplica() {
+            // Given
+            given(containerCodeIndex.findContainer(container.getCode())).willReturn(Optional.empty());
+            given(containerRepository.findFirstByCodeOrderByIdDesc(container.getCode()))
+                    .willAnswer(invocation -> {
+                        ReadYourWrites.markReplicaRead();
+                        return Optional.of(container);
+                    });
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainerByCode(container.getCode());
+
+            // Then
+            assertThat(containerRetrieved).contains(container);
+            verify(containerCodeIndex, never()).remember(any());
+        }
+
+        @Test
+        void shouldRetrieveEmptyWhenCodeDoesNotExist() {
+            // Given
+            given(containerCodeIndex.findContainer("ABC")).willReturn(Optional.empty());
+            given(containerRepository.findFirstByCodeOrderByIdDesc("ABC")).willReturn(Optional.empty());
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainerByCode("ABC");
+
+            // Then
             assertThat(containerRetrieved).isEmpty();
+            verify(containerCodeIndex, times(0)).remember(any());
+        }
+
+        @Test
+        void shouldRetrieveByCodeKeyOnceBackfilled() {
+            // Given
+            Container isoContainer = container.withCode("CSQU3054383");
+            given(containerCodeIndex.findContainer("CSQU3054383")).willReturn(Optional.empty());
+            given(containerCodeKeys.isBackfilled()).willReturn(true);
+            given(containerRepository.findFirstByCodeKeyOrderByIdDesc(Iso6346.encode("CSQU3054383")))
+                    .willReturn(Optional.of(isoContainer));
+
+            // When
+            Optional<Container> containerRetrieved = containerService.getContainerByCode("CSQU3054383");
+
+            // Then
+            assertThat(containerRetrieved).contains(isoContainer);
+            verify(containerRepository, times(0)).findFirstByCodeOrderByIdDesc(any());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenCodeIsBlank() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getContainerByCode(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
         }
     }
 
@@ -148,27 +426,480 @@ public class ContainerServiceTests {
         }
     }
 
+    @Nested
+    class SuggestContainerCodes {
+        @Test
+        void shouldSuggestCodesFromPrefixIndex() {
+            // Given
+            given(containerCodePrefixIndex.suggest("MSKU12", 10)).willReturn(List.of("MSKU1200001", "MSKU1200002"));
+
+            // When
+            List<String> suggestions = containerService.suggestContainerCodes("MSKU12", 10);
+
+            // Then
+            assertThat(suggestions).containsExactly("MSKU1200001", "MSKU1200002");
+            verifyNoInteractions(containerRepository);
+        }
+
+        @Test
+        void shouldCapLimit() {
+            // When
+            containerService.suggestContainerCodes("MSKU", Constants.MAX_SUGGESTIONS + 1);
+
+            // Then
+            verify(containerCodePrefixIndex).suggest("MSKU", Constants.MAX_SUGGESTIONS);
+        }
+
+        @Test
+        void shouldRejectBlankPrefixOrInvalidLimit() {
+            // Then
+            assertThatThrownBy(() -> containerService.suggestContainerCodes(" ", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.suggestContainerCodes(null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.suggestContainerCodes("MSKU", 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class ListContainerPage {
+        @Test
+        void shouldReturnPageWithNextCursorWhenMoreContainersExist() {
+            // Given
+            Container container2 = generateContainer().withId(11);
+            Container container3 = generateContainer().withId(12);
+            given(containerRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(3)))
+                    .willReturn(List.of(container.withId(10), container2, container3));
+
+            // When
+            ContainerPage page = containerService.getContainersPage(null, 2);
+
+            // Then
+            assertThat(page.getContainers()).hasSize(2);
+            assertThat(CursorCodec.decode(page.getNextCursor())).isEqualTo(container2.getId());
+        }
+
+        @Test
+        void shouldReturnLastPageWithoutNextCursor() {
+            // Given
+            String cursor = CursorCodec.encode(10);
+            given(containerRepository.findByIdGreaterThanOrderByIdAsc(10, Limit.of(3)))
+                    .willReturn(List.of(container.withId(11)));
+
+            // When
+            ContainerPage page = containerService.getContainersPage(cursor, 2);
+
+            // Then
+            assertThat(page.getContainers()).hasSize(1);
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        void shouldCapPageSizeToMaximum() {
+            // Given
+            given(containerRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(Constants.MAX_PAGE_SIZE + 1)))
+                    .willReturn(List.of());
+
+            // When
+            ContainerPage page = containerService.getContainersPage(null, Integer.MAX_VALUE);
+
+            // Then
+            assertThat(page.getContainers()).isEmpty();
+            verify(containerRepository, times(1))
+                    .findByIdGreaterThanOrderByIdAsc(0, Limit.of(Constants.MAX_PAGE_SIZE + 1));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenInvalidArguments() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getContainersPage(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.getContainersPage("not-a-cursor", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerRepository);
+        }
+
+        @Test
+        void shouldReturnPageOfContainersInStatus() {
+            // Given
+            String cursor = CursorCodec.encode(10);
+            Container container2 = generateContainer().withId(12);
+            given(containerRepository.findByStatusAfterId(ContainerStatus.READY_FOR_PICKUP, 10, Limit.of(3)))
+                    .willReturn(List.of(container.withId(11), container2, generateContainer().withId(13)));
+
+            // When
+            ContainerPage page = containerService.getContainersPage(ContainerStatus.READY_FOR_PICKUP, cursor, 2);
+
+            // Then
+            assertThat(page.getContainers()).hasSize(2);
+            assertThat(CursorCodec.decode(page.getNextCursor())).isEqualTo(container2.getId());
+        }
+
+        @Test
+        void shouldThrowExceptionWhenStatusIsMissing() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getContainersPage((ContainerStatus) null, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.getContainersPage(ContainerStatus.PICKED_UP, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerRepository);
+        }
+    }
+
+    @Nested
+    class ContainerHistory {
+        private final Instant from = Instant.parse("2026-10-18T08:00:00Z");
+        private final Instant to = Instant.parse("2026-10-18T16:00:00Z");
+
+        @Test
+        void shouldReturnTimelineWithinRange() {
+            // Given
+            List<ContainerStatusChange> timeline = Instancio.ofList(ContainerStatusChange.class)
+                    .size(2)
+                    .create();
+            given(containerStatusHistoryRepository.findByContainerIdAndChangedAtBetweenOrderByChangedAtAsc(
+                            1, from, to))
+                    .willReturn(timeline);
+
+            // When
+            List<ContainerStatusChange> history = containerService.getContainerHistory(1, from, to);
+
+            // Then
+            assertThat(history).isEqualTo(timeline);
+        }
+
+        @Test
+        void shouldDefaultToWholeHistory() {
+            // When
+            containerService.getContainerHistory(1, null, null);
+
+            // Then
+            ArgumentCaptor<Instant> historyTo = ArgumentCaptor.forClass(Instant.class);
+            verify(containerStatusHistoryRepository)
+                    .findByContainerIdAndChangedAtBetweenOrderByChangedAtAsc(
+                            eq(1), eq(Instant.EPOCH), historyTo.capture());
+            assertThat(historyTo.getValue()).isAfter(from);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenRangeIsReversed() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getContainerHistory(1, to, from))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerStatusHistoryRepository);
+        }
+    }
+
+    @Nested
+    class ContainerStatusesAt {
+        private final Instant at = Instant.parse("2026-10-18T14:00:00Z");
+
+        private ContainerStatusChange change(int containerId) {
+            return ContainerStatusChange.builder()
+                    .containerId(containerId)
+                    .code("ABC" + containerId)
+                    .status(ContainerStatus.CUSTOMS_CLEARANCE)
+                    .changedAt(at)
+                    .build();
+        }
+
+        @Test
+        void shouldReturnPageWithNextCursorWhenMoreContainersExist() {
+            // Given
+            given(containerStatusHistoryRepository.findStatusesAt(at, 0, Limit.of(3)))
+                    .willReturn(List.of(change(10), change(11), change(12)));
+
+            // When
+            ContainerStatusChangePage page = containerService.getContainerStatusesAt(at, null, 2);
+
+            // Then
+            assertThat(page.getChanges()).hasSize(2);
+            assertThat(CursorCodec.decode(page.getNextCursor())).isEqualTo(11);
+        }
+
+        @Test
+        void shouldReturnLastPageWithoutNextCursor() {
+            // Given
+            given(containerStatusHistoryRepository.findStatusesAt(at, 10, Limit.of(3)))
+                    .willReturn(List.of(change(11)));
+
+            // When
+            ContainerStatusChangePage page = containerService.getContainerStatusesAt(at, CursorCodec.encode(10), 2);
+
+            // Then
+            assertThat(page.getChanges()).hasSize(1);
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenInvalidArguments() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getContainerStatusesAt(null, null, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.getContainerStatusesAt(at, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerStatusHistoryRepository);
+        }
+    }
+
+    @Nested
+    class DwellTimes {
+        private final Instant to = Instant.parse("2026-10-18T14:30:00Z");
+
+        private ContainerDwellTime dwellTime(ContainerStatus status, int hoursBefore, Duration dwell) {
+            DwellTimeSketch sketch = new DwellTimeSketch();
+            sketch.add(dwell);
+            return ContainerDwellTime.builder()
+                    .status(status)
+                    .hourStart(Instant.parse("2026-10-18T14:00:00Z").minus(Duration.ofHours(hoursBefore)))
+                    .sketch(sketch.toBytes())
+                    .build();
+        }
+
+        @Test
+        void shouldMergeHourlySketchesPerStatus() {
+            // Given
+            Instant from = Instant.parse("2026-10-18T10:15:00Z");
+            given(containerDwellTimeRepository.findByHourStartGreaterThanEqualAndHourStartLessThan(
+                            Instant.parse("2026-10-18T10:00:00Z"), to))
+                    .willReturn(List.of(
+                            dwellTime(ContainerStatus.CUSTOMS_CLEARANCE, 2, Duration.ofHours(20)),
+                            dwellTime(ContainerStatus.CUSTOMS_CLEARANCE, 1, Duration.ofHours(40)),
+                            dwellTime(ContainerStatus.UNLOADING, 1, Duration.ofHours(1))));
+
+            // When
+            Map<ContainerStatus, ContainerDwellTimeSummary> dwellTimes = containerService.getDwellTimes(from, to);
+
+            // Then
+            assertThat(dwellTimes).containsOnlyKeys(ContainerStatus.CUSTOMS_CLEARANCE, ContainerStatus.UNLOADING);
+            ContainerDwellTimeSummary customs = dwellTimes.get(ContainerStatus.CUSTOMS_CLEARANCE);
+            assertThat(customs.getCount()).isEqualTo(2);
+            assertThat(customs.getMeanSeconds()).isEqualTo(Duration.ofHours(30).toSeconds());
+            assertThat(customs.getP95Seconds()).isCloseTo(Duration.ofHours(40).toSeconds(), withinPercentage(2));
+        }
+
+        @Test
+        void shouldDefaultToLastDay() {
+            // When
+            containerService.getDwellTimes(null, to);
+
+            // Then
+            verify(containerDwellTimeRepository)
+                    .findByHourStartGreaterThanEqualAndHourStartLessThan(
+                            Instant.parse("2026-10-17T14:00:00Z"), to);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenRangeIsEmpty() {
+            // When & Then
+            assertThatThrownBy(() -> containerService.getDwellTimes(to, to))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerDwellTimeRepository);
+        }
+    }
+
+    @Nested
+    class ExportContainer {
+        private Container exportedContainer(int id, String code, ContainerStatus status) {
+            return Container.builder().id(id).code(code).status(status).build();
+        }
+
+        private void givenExportedContainers(Container... containers) {
+            doAnswer(invocation -> {
+                        Consumer<Container> consumer = invocation.getArgument(0);
+                        for (Container exported : containers) {
+                            consumer.accept(exported);
+                        }
+                        return null;
+                    })
+                    .when(containerExportRepository)
+                    .streamAll(any());
+        }
+
+        @Test
+        void shouldWriteOneJsonObjectPerLineWhenNdjsonFormat() throws Exception {
+            // Given
+            givenExportedContainers(
+                    exportedContainer(1, "ABC", ContainerStatus.UNLOADING),
+                    exportedContainer(2, "D\"EF", ContainerStatus.PICKED_UP));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // When
+            containerService.exportContainers(ContainerExportFormat.NDJSON, outputStream);
+
+            // Then
+            assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                    .isEqualTo("{\"id\":1,\"code\":\"ABC\",\"status\":\"UNLOADING\"}\n"
+                            + "{\"id\":2,\"code\":\"D\\\"EF\",\"status\":\"PICKED_UP\"}\n");
+        }
+
+        @Test
+        void shouldWriteHeaderAndEscapedRowsWhenCsvFormat() throws Exception {
+            // Given
+            givenExportedContainers(
+                    exportedContainer(1, "ABC", ContainerStatus.UNLOADING),
+                    exportedContainer(2, "D,\"EF", ContainerStatus.PICKED_UP));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // When
+            containerService.exportContainers(ContainerExportFormat.CSV, outputStream);
+
+            // Then
+            assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                    .isEqualTo("id,code,status\n1,ABC,UNLOADING\n2,\"D,\"\"EF\",PICKED_UP\n");
+        }
+
+        @Test
+        void shouldThrowIOExceptionWhenClientDisconnects() {
+            // Given
+            givenExportedContainers(exportedContainer(1, "ABC", ContainerStatus.UNLOADING));
+            OutputStream brokenStream = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.exportContainers(ContainerExportFormat.CSV, brokenStream))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Nested
+    class StatusSummary {
+        @Test
+        void shouldReturnCountOfEveryStatus() {
+            // Given
+            given(containerStatusCounters.count(any(ContainerStatus.class))).willReturn(0L);
+            given(containerStatusCounters.count(ContainerStatus.UNLOADING)).willReturn(3L);
+
+            // When
+            Map<ContainerStatus, Long> retrievedSummary = containerService.getStatusSummary();
+
+            // Then
+            assertThat(retrievedSummary)
+                    .containsEntry(ContainerStatus.UNLOADING, 3L)
+                    .containsEntry(ContainerStatus.PICKED_UP, 0L)
+                    .hasSize(ContainerStatus.values().length);
+            verifyNoInteractions(containerRepository);
+        }
+
+        @Test
+        void shouldCountContainersFromCounters() {
+            // Given
+            given(containerStatusCounters.count(ContainerStatus.PICKED_UP)).willReturn(2_000_000L);
+            given(containerStatusCounters.total()).willReturn(2_000_012L);
+
+            // When & Then
+            assertThat(containerService.countContainers(ContainerStatus.PICKED_UP)).isEqualTo(2_000_000L);
+            assertThat(containerService.countContainers(null)).isEqualTo(2_000_012L);
+            verifyNoInteractions(containerRepository);
+        }
+    }
+
     @Nested
     class UpdateContainer {
         @Test
-        void shouldUpdateWhenObjectExistAndValid() {
+        void shouldUpdateInOneStatementWhenCachedContainerIsCurrent() {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withStatus(ContainerStatus.UNLOADING);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, newContainer.getCode(), newContainer.getStatus(), container.getVersion()))
+                    .willReturn(1);
+
+            // When
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+
+            // Then
+            verify(containerRepository, times(0)).findById(anyInt());
+            verify(containerRepository, times(0)).save(any(Container.class));
+            assertThat(updatedContainer.getId()).isEqualTo(containerId);
+            assertThat(updatedContainer.getCode()).isEqualTo(newContainer.getCode());
+            assertThat(updatedContainer.getStatus()).isEqualTo(newContainer.getStatus());
+            assertThat(updatedContainer.getVersion()).isEqualTo(container.getVersion() + 1);
+
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousStatus()).isEqualTo(ContainerStatus.UNLOADING);
+            assertThat(event.getValue().getStatus()).isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
+        }
+
+        @Test
+        void shouldReadContainerWhenNotCached() {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.DECONSOLIDATION);
+            newContainer.setCode(null);
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, null, ContainerStatus.DECONSOLIDATION, container.getVersion()))
+                    .willReturn(1);
+
+            // When
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+
+            // Then
+            assertThat(updatedContainer.getCode()).isEqualTo(container.getCode());
+            assertThat(updatedContainer.getStatus()).isEqualTo(ContainerStatus.DECONSOLIDATION);
+        }
+
+        @Test
+        void shouldRetryFromDatabaseWhenCachedContainerIsStale() {
+            // Given
+            int containerId = 1;
+            Container stale = container.withId(containerId).withStatus(ContainerStatus.UNLOADING).withVersion(3);
+            Container current = stale.withStatus(ContainerStatus.CUSTOMS_CLEARANCE).withVersion(4);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(stale));
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(current));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            eq(containerId),
+                            eq(newContainer.getCode()),
+                            eq(ContainerStatus.CUSTOMS_CLEARANCE),
+                            anyLong()))
+                    .willAnswer(invocation -> invocation.<Long>getArgument(3) == 4 ? 1 : 0);
+
+            // When
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+
+            // Then
+            assertThat(updatedContainer.getVersion()).isEqualTo(5);
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher, times(1)).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousStatus()).isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
+            assertThat(event.getValue().isStatusChange()).isFalse();
+        }
+
+        @Test
+        void shouldPublishPreviousCodeWhenOnlyCodeIsUpdated() {
             // Given
             int containerId = 1;
             container.setId(containerId);
             Container newContainer = generateContainer();
-
+            newContainer.setStatus(null);
             given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
-            given(containerRepository.save(any(Container.class))).willReturn(container);
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, newContainer.getCode(), null, container.getVersion()))
+                    .willReturn(1);
 
             // When
             Container updatedContainer = containerService.updateContainer(containerId, newContainer);
 
             // Then
-            verify(containerRepository, times(1)).findById(containerId);
-            verify(containerRepository, times(1)).save(any(Container.class));
-            assertThat(updatedContainer).isNotNull();
             assertThat(updatedContainer.getCode()).isEqualTo(newContainer.getCode());
-            assertThat(updatedContainer.getStatus()).isEqualTo(newContainer.getStatus());
+            assertThat(updatedContainer.getStatus()).isEqualTo(container.getStatus());
+
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousCode()).isEqualTo(container.getCode());
+            assertThat(event.getValue().getCode()).isEqualTo(newContainer.getCode());
+            assertThat(event.getValue().isStatusChange()).isFalse();
         }
 
         @Test
@@ -181,92 +912,282 @@ public class ContainerServiceTests {
             // When & Then
             assertThatThrownBy(() -> containerService.updateContainer(containerId, newContainer))
                     .isInstanceOf(ContainerException.ContainerNotFoundException.class);
+            verify(containerRepository, times(0)).updateCodeAndStatusByIdAndVersion(anyInt(), any(), any(), anyLong());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
-        void shouldThrowExceptionWhenErrorSavingContainer() {
+        void shouldThrowExceptionWhenCachedContainerWasRemoved() {
             // Given
             int containerId = 1;
-            container.setId(containerId);
-            Container newContainer = generateContainer();
+            Container newContainer = generateContainer().withStatus(null);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.findById(containerId)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.updateContainer(containerId, newContainer))
+                    .isInstanceOf(ContainerException.ContainerNotFoundException.class);
+            verifyNoInteractions(eventPublisher);
+        }
 
+        @Test
+        void shouldThrowExceptionWhenErrorSavingContainer() {
+            // Given
+            int containerId = 1;
+            Container newContainer = generateContainer().withStatus(container.getStatus());
             given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
-            given(containerRepository.save(any(Container.class))).willThrow(RuntimeException.class);
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(anyInt(), any(), any(), anyLong()))
+                    .willThrow(RuntimeException.class);
 
             // When & Then
             assertThatThrownBy(() -> containerService.updateContainer(containerId, newContainer))
                     .isInstanceOf(RuntimeException.class);
-            verify(containerRepository, times(1)).findById(containerId);
-            verify(containerRepository, times(1)).save(any(Container.class));
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
-        void shouldThrowExceptionWhenInvalidStatusInContainerUpdate() {
+        void shouldNotUpdateWhenNullAttributes() {
             // Given
             int containerId = 1;
             container.setId(containerId);
             Container newContainer = generateContainer();
+            newContainer.setCode(null);
+            newContainer.setStatus(null);
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, null, null, container.getVersion()))
+                    .willReturn(1);
 
-            Container containerToUpdate = mock(Container.class);
-            doThrow(IllegalArgumentException.class).when(containerToUpdate).setStatus(any());
-            given(containerRepository.findById(containerId)).willReturn(Optional.of(containerToUpdate));
+            // When
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+
+            // Then
+            assertThat(updatedContainer).isNotNull();
+            assertThat(updatedContainer.getCode()).isEqualTo(container.getCode());
+            assertThat(updatedContainer.getStatus()).isEqualTo(container.getStatus());
+            assertThat(updatedContainer.getVersion()).isEqualTo(container.getVersion() + 1);
+        }
+
+        @Test
+        void shouldRejectStatusChangeThatSkipsTheLifecycle() {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withStatus(ContainerStatus.UNLOADING);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.READY_FOR_PICKUP);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
 
             // When & Then
             assertThatThrownBy(() -> containerService.updateContainer(containerId, newContainer))
                     .isInstanceOf(IllegalArgumentException.class);
-            verify(containerRepository, times(1)).findById(containerId);
+            verify(containerRepository, times(0)).updateCodeAndStatusByIdAndVersion(anyInt(), any(), any(), anyLong());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
-        void shouldNotUpdateWhenNullAttributes() {
+        void shouldAllowUnchangedStatus() {
             // Given
             int containerId = 1;
-            container.setId(containerId);
-            Container newContainer = generateContainer();
-            newContainer.setCode(null);
-            newContainer.setStatus(null);
+            container = container.withId(containerId).withStatus(ContainerStatus.PICKED_UP);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.PICKED_UP);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, newContainer.getCode(), ContainerStatus.PICKED_UP, container.getVersion()))
+                    .willReturn(1);
 
+            // When
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+
+            // Then
+            assertThat(updatedContainer.getStatus()).isEqualTo(ContainerStatus.PICKED_UP);
+            assertThat(updatedContainer.getCode()).isEqualTo(newContainer.getCode());
+        }
+    }
+
+    @Nested
+    class UpdateContainerWithExpectedVersion {
+        @Test
+        void shouldUpdateWithoutLockWhenVersionMatches() {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withStatus(ContainerStatus.UNLOADING).withVersion(3);
+            Container newContainer = generateContainer().withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
             given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
-            given(containerRepository.save(any(Container.class))).willReturn(container);
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, newContainer.getCode(), newContainer.getStatus(), 3))
+                    .willReturn(1);
 
             // When
-            Container updatedContainer = containerService.updateContainer(containerId, newContainer);
+            Container updatedContainer = containerService.updateContainer(containerId, newContainer, 3);
 
             // Then
-            verify(containerRepository, times(1)).findById(containerId);
-            verify(containerRepository, times(1)).save(any(Container.class));
-            assertThat(updatedContainer).isNotNull();
-            assertThat(updatedContainer.getCode()).isNotNull();
-            assertThat(updatedContainer.getStatus()).isNotNull();
+            assertThat(updatedContainer.getCode()).isEqualTo(newContainer.getCode());
+            assertThat(updatedContainer.getStatus()).isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
+            assertThat(updatedContainer.getVersion()).isEqualTo(4);
+
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousStatus()).isEqualTo(ContainerStatus.UNLOADING);
+        }
+
+        @Test
+        void shouldThrowExceptionWithoutWritingWhenVersionIsStale() {
+            // Given
+            int containerId = 1;
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container.withVersion(5)));
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.updateContainer(
+                            containerId, generateContainer().withStatus(container.getStatus()), 3))
+                    .isInstanceOf(ContainerException.ContainerVersionMismatchException.class);
+            verify(containerRepository, times(0)).updateCodeAndStatusByIdAndVersion(anyInt(), any(), any(), anyLong());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenConcurrentWriteWins() {
+            // Given
+            int containerId = 1;
+            Container newContainer = generateContainer().withStatus(container.getStatus());
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(container.withVersion(3)));
+            given(containerRepository.updateCodeAndStatusByIdAndVersion(
+                            containerId, newContainer.getCode(), newContainer.getStatus(), 3))
+                    .willReturn(0);
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.updateContainer(containerId, newContainer, 3))
+                    .isInstanceOf(ContainerException.ContainerVersionMismatchException.class);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenContainerDoesNotExist() {
+            // Given
+            given(containerRepository.findById(1)).willReturn(Optional.empty());
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.updateContainer(1, generateContainer(), 3))
+                    .isInstanceOf(ContainerException.ContainerNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class TransitionContainer {
+        private final ContainerTransition transition =
+                new ContainerTransition(ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE);
+
+        @Test
+        void shouldTransitionWhenStatusIsExpected() {
+            // Given
+            int containerId = 1;
+            Container transitioned = container.withId(containerId).withStatus(ContainerStatus.CUSTOMS_CLEARANCE);
+            given(containerRepository.compareAndSetStatus(
+                            containerId, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE))
+                    .willReturn(1);
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(transitioned));
+
+            // When
+            Container containerUpdated = containerService.transitionContainer(containerId, transition);
+
+            // Then
+            assertThat(containerUpdated.getStatus()).isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
+            verify(containerRepository, times(0)).existsById(containerId);
+        }
+
+        @Test
+        void shouldThrowConflictWhenStatusChangedConcurrently() {
+            // Given
+            int containerId = 1;
+            given(containerRepository.compareAndSetStatus(anyInt(), any(), any()))
+                    .willReturn(0);
+            given(containerRepository.existsById(containerId)).willReturn(true);
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.transitionContainer(containerId, transition))
+                    .isInstanceOf(ContainerException.ContainerStatusConflictException.class);
+        }
+
+        @Test
+        void shouldThrowNotFoundWhenContainerDoesNotExist() {
+            // Given
+            int containerId = 1;
+            given(containerRepository.compareAndSetStatus(anyInt(), any(), any()))
+                    .willReturn(0);
+            given(containerRepository.existsById(containerId)).willReturn(false);
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.transitionContainer(containerId, transition))
+                    .isInstanceOf(ContainerException.ContainerNotFoundException.class);
+        }
+
+        @Test
+        void shouldRejectIllegalTransitionWithoutDatabaseAccess() {
+            // Given
+            ContainerTransition illegal = new ContainerTransition(ContainerStatus.PICKED_UP, ContainerStatus.UNLOADING);
+            ContainerTransition incomplete = new ContainerTransition(ContainerStatus.UNLOADING, null);
+
+            // When & Then
+            assertThatThrownBy(() -> containerService.transitionContainer(1, illegal))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> containerService.transitionContainer(1, incomplete))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(containerRepository);
         }
     }
 
     @Nested
     class DeleteContainer {
         @Test
-        void shouldDeleteObjectWhenExist() {
+        void shouldDeleteInOneStatementWhenCachedContainerIsCurrent() {
             // Given
             int containerId = 1;
             container.setId(containerId);
-            given(containerRepository.findById(containerId)).willReturn(Optional.of(container));
-            doNothing().when(containerRepository).deleteById(containerId);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(container));
+            given(containerRepository.deleteContainerByIdAndVersion(containerId, container.getVersion()))
+                    .willReturn(1);
 
             // When
-            containerService.deleteContainerById(container.getId());
+            containerService.deleteContainerById(containerId);
 
             // Then
-            verify(containerRepository, times(1)).deleteById(containerId);
+            verify(containerRepository, times(0)).findById(anyInt());
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getType()).isEqualTo(ContainerEvent.Type.DELETED);
+            assertThat(event.getValue().getPreviousStatus()).isEqualTo(container.getStatus());
+        }
+
+        @Test
+        void shouldRetryFromDatabaseWhenCachedContainerIsStale() {
+            // Given
+            int containerId = 1;
+            Container stale = container.withId(containerId).withStatus(ContainerStatus.UNLOADING).withVersion(3);
+            Container current = stale.withStatus(ContainerStatus.CUSTOMS_CLEARANCE).withVersion(4);
+            given(containerCodeIndex.findCachedContainer(containerId)).willReturn(Optional.of(stale));
+            given(containerRepository.findById(containerId)).willReturn(Optional.of(current));
+            given(containerRepository.deleteContainerByIdAndVersion(containerId, 3)).willReturn(0);
+            given(containerRepository.deleteContainerByIdAndVersion(containerId, 4)).willReturn(1);
+
+            // When
+            containerService.deleteContainerById(containerId);
+
+            // Then
+            ArgumentCaptor<ContainerEvent> event = ArgumentCaptor.forClass(ContainerEvent.class);
+            verify(eventPublisher, times(1)).publishEvent(event.capture());
+            assertThat(event.getValue().getPreviousStatus()).isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
         }
 
         @Test
         void shouldNotDeleteObjectWhenNotExist() {
             // Given
             int containerId = 1;
+            given(containerRepository.findById(containerId)).willReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> containerService.deleteContainerById(containerId))
                     .isInstanceOf(ContainerException.ContainerNotFoundException.class);
-            verify(containerRepository, times(0)).deleteById(containerId);
+            verify(containerRepository, times(0)).deleteContainerByIdAndVersion(anyInt(), anyLong());
+            verifyNoInteractions(eventPublisher);
         }
     }
 }
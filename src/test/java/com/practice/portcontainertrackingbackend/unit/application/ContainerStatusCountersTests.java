@@ -0,0 +1,196 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+import com.practice.portcontainertrackingbackend.application.ContainerStatusCounters;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusCount;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerStatusCountersTests {
+
+    @Mock
+    private ContainerRepository containerRepository;
+
+    private ContainerStatusCounters containerStatusCounters;
+
+    private Container container;
+
+    @BeforeEach
+    public void setup() {
+        containerStatusCounters = new ContainerStatusCounters(containerRepository);
+        container = Container.builder()
+                .id(1)
+                .code("ABC")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+    }
+
+    private ContainerStatusCount statusCount(ContainerStatus status, long total) {
+        return new ContainerStatusCount() {
+            @Override
+            public ContainerStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    // Runs the work as a transaction that ends with the given TransactionSynchronization status.
+    private void inTransaction(Runnable work, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldMoveCountBetweenStatusesOnEvents() {
+        // When
+        containerStatusCounters.onContainerEvent(ContainerEvent.created(container));
+        containerStatusCounters.onContainerEvent(ContainerEvent.updated(
+                container.withStatus(ContainerStatus.CUSTOMS_CLEARANCE), ContainerStatus.UNLOADING));
+        containerStatusCounters.onContainerEvent(
+                ContainerEvent.created(container.withId(2).withStatus(ContainerStatus.PICKED_UP)));
+        containerStatusCounters.onContainerEvent(
+                ContainerEvent.deleted(container.withId(2).withStatus(ContainerStatus.PICKED_UP)));
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isZero();
+        assertThat(containerStatusCounters.count(ContainerStatus.CUSTOMS_CLEARANCE)).isOne();
+        assertThat(containerStatusCounters.count(ContainerStatus.PICKED_UP)).isZero();
+    }
+
+    @Test
+    void shouldCountEventsOfTransactionOnlyOnceCommitted() {
+        // When
+        inTransaction(
+                () -> {
+                    containerStatusCounters.onContainerEvent(ContainerEvent.created(container));
+                    containerStatusCounters.onContainerEvent(ContainerEvent.created(container.withId(2)));
+                    assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING))
+                            .isZero();
+                },
+                TransactionSynchronization.STATUS_COMMITTED);
+        inTransaction(
+                () -> containerStatusCounters.onContainerEvent(ContainerEvent.created(container.withId(3))),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isEqualTo(2);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    void shouldNotCountCommitSeenByReconcileTwice() {
+        // Given a commit that completes while the count runs, and is in it
+        given(containerRepository.countByStatus()).willAnswer(invocation -> {
+            Thread committer = new Thread(() -> inTransaction(
+                    () -> containerStatusCounters.onContainerEvent(ContainerEvent.created(container)),
+                    TransactionSynchronization.STATUS_COMMITTED));
+            committer.start();
+            committer.join();
+            return List.of(statusCount(ContainerStatus.UNLOADING, 5));
+        });
+
+        // When
+        containerStatusCounters.reconcile();
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isEqualTo(5);
+    }
+
+    @Test
+    void shouldOnlyCorrectDriftThatCommitsDuringCountCannotExplain() {
+        // Given a commit that completes while the count runs, but after it
+        given(containerRepository.countByStatus()).willAnswer(invocation -> {
+            inTransaction(
+                    () -> containerStatusCounters.onContainerEvent(ContainerEvent.created(container)),
+                    TransactionSynchronization.STATUS_COMMITTED);
+            return List.of(statusCount(ContainerStatus.UNLOADING, 4));
+        });
+
+        // When
+        containerStatusCounters.reconcile();
+
+        // Then the missing row is left to the next reconcile rather than risking a count too high
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isEqualTo(4);
+    }
+
+    @Test
+    void shouldIgnoreUpdatesWithoutStatusChange() {
+        // When
+        containerStatusCounters.onContainerEvent(ContainerEvent.updated(container, ContainerStatus.UNLOADING));
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isZero();
+    }
+
+    @Test
+    void shouldRemoveCountOfArchivedContainers() {
+        // Given
+        given(containerRepository.countByStatus()).willReturn(List.of(statusCount(ContainerStatus.PICKED_UP, 7)));
+        containerStatusCounters.rebuild();
+
+        // When
+        containerStatusCounters.remove(ContainerStatus.PICKED_UP, 5);
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.PICKED_UP)).isEqualTo(2);
+        assertThat(containerStatusCounters.total()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRebuildCountersFromDatabase() {
+        // Given
+        given(containerRepository.countByStatus())
+                .willReturn(List.of(
+                        statusCount(ContainerStatus.UNLOADING, 5), statusCount(ContainerStatus.PICKED_UP, 7)));
+
+        // When
+        containerStatusCounters.rebuild();
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isEqualTo(5);
+        assertThat(containerStatusCounters.count(ContainerStatus.PICKED_UP)).isEqualTo(7);
+        assertThat(containerStatusCounters.count(ContainerStatus.DECONSOLIDATION)).isZero();
+        assertThat(containerStatusCounters.total()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldCorrectDriftWhenReconciling() {
+        // Given
+        containerStatusCounters.onContainerEvent(ContainerEvent.created(container));
+        containerStatusCounters.onContainerEvent(ContainerEvent.created(container.withId(2)));
+        given(containerRepository.countByStatus()).willReturn(List.of(statusCount(ContainerStatus.UNLOADING, 1)));
+
+        // When
+        containerStatusCounters.reconcile();
+
+        // Then
+        assertThat(containerStatusCounters.count(ContainerStatus.UNLOADING)).isOne();
+    }
+}
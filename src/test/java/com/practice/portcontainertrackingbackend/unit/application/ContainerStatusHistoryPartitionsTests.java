@@ -0,0 +1,105 @@
+package com.practice.portcontainertrackingbackend.unit.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.ContainerStatusHistoryPartitions;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerStatusHistoryPartitionsTests {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-11-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Test
+    void shouldCreateCurrentAndUpcomingMonthlyPartitions() {
+        // Given
+        ContainerStatusHistoryPartitions partitions = new ContainerStatusHistoryPartitions(jdbcOperations, 2, clock);
+        givenPartitioned(true);
+
+        // When
+        partitions.createUpcomingPartitions();
+
+        // Then
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcOperations, times(3)).execute(statements.capture());
+        assertThat(statements.getAllValues().get(0))
+                .isEqualTo("CREATE TABLE IF NOT EXISTS container_status_history_y2026m11 PARTITION OF "
+                        + "container_status_history FOR VALUES FROM ('2026-11-01 00:00:00+00') "
+                        + "TO ('2026-12-01 00:00:00+00')");
+        assertThat(statements.getAllValues().get(2))
+                .startsWith("CREATE TABLE IF NOT EXISTS container_status_history_y2027m01 ")
+                .endsWith("FROM ('2027-01-01 00:00:00+00') TO ('2027-02-01 00:00:00+00')");
+    }
+
+    @Test
+    void shouldKeepCreatingPartitionsWhenOneFails() {
+        // Given
+        ContainerStatusHistoryPartitions partitions = new ContainerStatusHistoryPartitions(jdbcOperations, 1, clock);
+        givenPartitioned(true);
+        willThrow(new DataAccessResourceFailureException("Connection refused"))
+                .willDoNothing()
+                .given(jdbcOperations)
+                .execute(anyString());
+
+        // When
+        partitions.createUpcomingPartitions();
+
+        // Then
+        verify(jdbcOperations, times(2)).execute(anyString());
+    }
+
+    @Test
+    void shouldSkipWhenTableIsNotPartitioned() {
+        // Given
+        ContainerStatusHistoryPartitions partitions = new ContainerStatusHistoryPartitions(jdbcOperations, 2, clock);
+        givenPartitioned(false);
+
+        // When
+        partitions.createUpcomingPartitions();
+
+        // Then
+        verify(jdbcOperations, never()).execute(anyString());
+    }
+
+    @Test
+    void shouldSkipWhenTableDoesNotExist() {
+        // Given
+        ContainerStatusHistoryPartitions partitions = new ContainerStatusHistoryPartitions(jdbcOperations, 2, clock);
+        given(jdbcOperations.queryForList(anyString(), eq(Boolean.class))).willReturn(List.of());
+
+        // When
+        partitions.createUpcomingPartitions();
+
+        // Then
+        verify(jdbcOperations, never()).execute(anyString());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenMonthsAheadIsNegative() {
+        // Then
+        assertThatThrownBy(() -> new ContainerStatusHistoryPartitions(jdbcOperations, -1, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void givenPartitioned(boolean partitioned) {
+        given(jdbcOperations.queryForList(anyString(), eq(Boolean.class))).willReturn(List.of(partitioned));
+    }
+}
@@ -0,0 +1,276 @@
+package com.practice.portcontainertrackingbackend.unit.application.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.practice.portcontainertrackingbackend.application.outbox.ContainerDwellTimeSink;
+import com.practice.portcontainertrackingbackend.application.outbox.ContainerStatusHistorySink;
+import com.practice.portcontainertrackingbackend.application.outbox.FileContainerEventSink;
+import com.practice.portcontainertrackingbackend.application.outbox.HttpContainerEventSink;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+public class ContainerEventSinkTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<ContainerEvent> events;
+
+    @BeforeEach
+    public void setup() {
+        Container container = Container.builder()
+                .id(1)
+                .code("ABC")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        events = List.of(ContainerEvent.created(container), ContainerEvent.deleted(container));
+    }
+
+    @Nested
+    class FileSink {
+        @Test
+        void shouldAppendOneLinePerEvent(@TempDir Path directory) throws Exception {
+            // Given
+            Path file = directory.resolve("events.ndjson");
+            FileContainerEventSink sink = new FileContainerEventSink(file, objectMapper);
+
+            // When
+            sink.deliver(events);
+            sink.deliver(events.subList(0, 1));
+
+            // Then
+            List<String> lines = Files.readAllLines(file);
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(1)).contains("\"type\":\"DELETED\"", "\"code\":\"ABC\"");
+        }
+    }
+
+    @Nested
+    class HttpSink {
+        private MockRestServiceServer server;
+
+        private HttpContainerEventSink sink;
+
+        @BeforeEach
+        public void setup() {
+            RestClient.Builder restClientBuilder = RestClient.builder();
+            server = MockRestServiceServer.bindTo(restClientBuilder).build();
+            sink = new HttpContainerEventSink(
+                    restClientBuilder.baseUrl("http://localhost:9090/events").build());
+        }
+
+        @Test
+        void shouldPostBatchAsJsonArray() {
+            // Given
+            server.expect(requestTo("http://localhost:9090/events"))
+                    .andExpect(method(HttpMethod.POST))
+                    .andExpect(content().json("[{\"type\":\"CREATED\"},{\"type\":\"DELETED\"}]"))
+                    .andRespond(withSuccess());
+
+            // When
+            sink.deliver(events);
+
+            // Then
+            server.verify();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenEndpointFails() {
+            // Given
+            server.expect(requestTo("http://localhost:9090/events")).andRespond(withServerError());
+
+            // Then
+            assertThatThrownBy(() -> sink.deliver(events)).isInstanceOf(RestClientException.class);
+        }
+    }
+
+    @Nested
+    class StatusHistorySink {
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldRecordOnlyStatusChanges() {
+            // Given
+            ContainerStatusHistoryRepository repository = mock(ContainerStatusHistoryRepository.class);
+            ContainerStatusHistorySink sink = new ContainerStatusHistorySink(repository);
+            Container renamed = Container.builder()
+                    .id(1)
+                    .code("XYZ")
+                    .status(ContainerStatus.UNLOADING)
+                    .build();
+
+            // When
+            sink.deliver(List.of(
+                    events.get(0), ContainerEvent.updated(renamed, ContainerStatus.UNLOADING), events.get(1)));
+
+            // Then
+            ArgumentCaptor<List<ContainerStatusChange>> saved = ArgumentCaptor.forClass(List.class);
+            verify(repository).saveAll(saved.capture());
+            assertThat(saved.getValue())
+                    .extracting(ContainerStatusChange::getPreviousStatus, ContainerStatusChange::getStatus)
+                    .containsExactly(tuple(null, ContainerStatus.UNLOADING), tuple(ContainerStatus.UNLOADING, null));
+        }
+
+        @Test
+        void shouldNotWriteWhenNoStatusChanged() {
+            // Given
+            ContainerStatusHistoryRepository repository = mock(ContainerStatusHistoryRepository.class);
+            ContainerStatusHistorySink sink = new ContainerStatusHistorySink(repository);
+            Container container = Container.builder()
+                    .id(1)
+                    .code("ABC")
+                    .status(ContainerStatus.UNLOADING)
+                    .build();
+
+            // When
+            sink.deliver(List.of(ContainerEvent.updated(container, ContainerStatus.UNLOADING)));
+
+            // Then
+            verifyNoInteractions(repository);
+        }
+    }
+
+    @Nested
+    class DwellTimeSink {
+        private final Instant hour = Instant.parse("2026-10-18T08:00:00Z");
+
+        private ContainerStatusHistoryRepository historyRepository;
+
+        private ContainerDwellTimeRepository dwellTimeRepository;
+
+        private ContainerDwellTimeSink sink;
+
+        @BeforeEach
+        public void setup() {
+            historyRepository = mock(ContainerStatusHistoryRepository.class);
+            dwellTimeRepository = mock(ContainerDwellTimeRepository.class);
+            sink = new ContainerDwellTimeSink(historyRepository, dwellTimeRepository);
+        }
+
+        private ContainerEvent event(
+                int containerId, ContainerStatus previousStatus, ContainerStatus status, Duration sinceHour) {
+            return new ContainerEvent(
+                    previousStatus == null ? ContainerEvent.Type.CREATED : ContainerEvent.Type.UPDATED,
+                    containerId,
+                    "ABC" + containerId,
+                    "ABC" + containerId,
+                    previousStatus,
+                    status,
+                    0,
+                    hour.plus(sinceHour));
+        }
+
+        private DwellTimeSketch savedSketch(ContainerStatus status, Instant hourStart) {
+            ArgumentCaptor<ContainerDwellTime> saved = ArgumentCaptor.forClass(ContainerDwellTime.class);
+            verify(dwellTimeRepository, atLeastOnce()).save(saved.capture());
+            return saved.getAllValues().stream()
+                    .filter(dwellTime -> dwellTime.getStatus() == status
+                            && dwellTime.getHourStart().equals(hourStart))
+                    .map(dwellTime -> DwellTimeSketch.fromBytes(dwellTime.getSketch()))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        @Test
+        void shouldRecordDwellTimeFromHistoryAndFromBatch() {
+            // Given
+            ContainerStatusChange entered = ContainerStatusChange.builder()
+                    .containerId(1)
+                    .status(ContainerStatus.UNLOADING)
+                    .changedAt(hour.minus(Duration.ofHours(2)))
+                    .build();
+            given(historyRepository.findLastChangesBefore(anyCollection(), any())).willReturn(List.of(entered));
+
+            // When
+            sink.deliver(List.of(
+                    event(2, null, ContainerStatus.UNLOADING, Duration.ofMinutes(5)),
+                    event(1, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE, Duration.ofMinutes(10)),
+                    event(2, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE, Duration.ofMinutes(35))));
+
+            // Then
+            DwellTimeSketch unloading = savedSketch(ContainerStatus.UNLOADING, hour);
+            assertThat(unloading.getCount()).isEqualTo(2);
+            assertThat(unloading.quantileSeconds(0)).isCloseTo(30 * 60, withinPercentage(2));
+            assertThat(unloading.quantileSeconds(1)).isCloseTo(130 * 60, withinPercentage(2));
+        }
+
+        @Test
+        void shouldMergeIntoExistingHour() {
+            // Given
+            DwellTimeSketch existing = new DwellTimeSketch();
+            existing.add(Duration.ofMinutes(5));
+            ContainerDwellTime stored = ContainerDwellTime.builder()
+                    .status(ContainerStatus.UNLOADING)
+                    .hourStart(hour)
+                    .sketch(existing.toBytes())
+                    .build();
+            given(dwellTimeRepository.findByStatusAndHourStart(ContainerStatus.UNLOADING, hour))
+                    .willReturn(Optional.of(stored));
+
+            // When
+            sink.deliver(List.of(
+                    event(2, null, ContainerStatus.UNLOADING, Duration.ZERO),
+                    event(2, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE, Duration.ofMinutes(20))));
+
+            // Then
+            assertThat(savedSketch(ContainerStatus.UNLOADING, hour).getCount()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldSkipChangeWhenHistoryDoesNotMatch() {
+            // Given
+            ContainerStatusChange entered = ContainerStatusChange.builder()
+                    .containerId(1)
+                    .status(ContainerStatus.DECONSOLIDATION)
+                    .changedAt(hour.minus(Duration.ofHours(2)))
+                    .build();
+            given(historyRepository.findLastChangesBefore(anyCollection(), any())).willReturn(List.of(entered));
+
+            // When
+            sink.deliver(List.of(
+                    event(1, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE, Duration.ofMinutes(10))));
+
+            // Then
+            verifyNoInteractions(dwellTimeRepository);
+        }
+
+        @Test
+        void shouldNotQueryWhenNoContainerLeftStatus() {
+            // When
+            sink.deliver(List.of(event(1, null, ContainerStatus.UNLOADING, Duration.ZERO)));
+
+            // Then
+            verifyNoInteractions(historyRepository, dwellTimeRepository);
+        }
+    }
+}
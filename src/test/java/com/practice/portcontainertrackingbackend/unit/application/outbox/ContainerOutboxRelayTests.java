@@ -0,0 +1,189 @@
+package com.practice.portcontainertrackingbackend.unit.application.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.application.outbox.ContainerEventSink;
+import com.practice.portcontainertrackingbackend.application.outbox.ContainerOutboxRelay;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerOutboxRelayTests {
+
+    @Mock
+    private ContainerOutboxRepository containerOutboxRepository;
+
+    @Mock
+    private ContainerEventSink sink;
+
+    private ContainerOutboxRelay containerOutboxRelay;
+
+    // Every event in the outbox, and the ones among them claimed by a relay on another node.
+    private final List<ContainerOutboxEvent> pending = new ArrayList<>();
+    private final List<ContainerOutboxEvent> heldElsewhere = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        containerOutboxRelay = new ContainerOutboxRelay(
+                containerOutboxRepository, List.of(sink), TransactionOperations.withoutTransaction(), 2);
+    }
+
+    private ContainerOutboxEvent outboxEvent(long id) {
+        return outboxEvent(id, (int) id, 0);
+    }
+
+    private ContainerOutboxEvent outboxEvent(long id, int containerId, long version) {
+        Container container = Container.builder()
+                .id(containerId)
+                .code("ABC" + id)
+                .status(ContainerStatus.UNLOADING)
+                .version(version)
+                .build();
+        ContainerOutboxEvent outboxEvent = ContainerOutboxEvent.of(ContainerEvent.created(container));
+        outboxEvent.setId(id);
+        return outboxEvent;
+    }
+
+    private void givenPendingEvents(ContainerOutboxEvent... events) {
+        pending.addAll(List.of(events));
+        given(containerOutboxRepository.findByContainerIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Integer> containerIds = invocation.getArgument(0);
+            return pending.stream()
+                    .filter(event -> containerIds.contains(event.getContainerId()) && !heldElsewhere.contains(event))
+                    .toList();
+        });
+        given(containerOutboxRepository.findContainerIdsOfPendingEvents(anyCollection()))
+                .willAnswer(invocation -> {
+                    Collection<Integer> containerIds = invocation.getArgument(0);
+                    return pending.stream()
+                            .map(ContainerOutboxEvent::getContainerId)
+                            .filter(containerIds::contains)
+                            .toList();
+                });
+    }
+
+    @Test
+    void shouldDeliverAndDeleteBatchesUntilOutboxIsEmpty() throws Exception {
+        // Given
+        ContainerOutboxEvent first = outboxEvent(1);
+        ContainerOutboxEvent second = outboxEvent(2);
+        ContainerOutboxEvent third = outboxEvent(3);
+        givenPendingEvents(first, second, third);
+        given(containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2)))
+                .willReturn(List.of(first, second))
+                .willReturn(List.of(third));
+
+        // When
+        int delivered = containerOutboxRelay.relay();
+
+        // Then
+        assertThat(delivered).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ContainerEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(sink, times(2)).deliver(batches.capture());
+        assertThat(batches.getAllValues().get(0))
+                .extracting(ContainerEvent::getCode)
+                .containsExactly("ABC1", "ABC2");
+        verify(containerOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(containerOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void shouldKeepEventsWhenSinkFails() throws Exception {
+        // Given
+        ContainerOutboxEvent event = outboxEvent(1);
+        givenPendingEvents(event);
+        given(containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2))).willReturn(List.of(event));
+        willThrow(new java.io.IOException("Connection refused")).given(sink).deliver(anyList());
+
+        // When
+        int delivered = containerOutboxRelay.relay();
+
+        // Then
+        assertThat(delivered).isZero();
+        verify(containerOutboxRepository, times(0)).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void shouldDeliverEventsOfContainerInVersionOrder() throws Exception {
+        // Given ids from two nodes' sequence blocks, the later change having the lower id
+        ContainerOutboxEvent later = outboxEvent(1, 7, 2);
+        ContainerOutboxEvent other = outboxEvent(2, 8, 0);
+        ContainerOutboxEvent earlier = outboxEvent(51, 7, 1);
+        givenPendingEvents(later, other, earlier);
+        given(containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2)))
+                .willReturn(List.of(later, other))
+                .willReturn(List.of());
+
+        // When
+        int delivered = containerOutboxRelay.relay();
+
+        // Then
+        assertThat(delivered).isEqualTo(3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ContainerEvent>> batch = ArgumentCaptor.forClass(List.class);
+        verify(sink).deliver(batch.capture());
+        assertThat(batch.getValue())
+                .extracting(ContainerEvent::getContainerId, ContainerEvent::getVersion)
+                .containsExactly(tuple(7, 1L), tuple(8, 0L), tuple(7, 2L));
+    }
+
+    @Test
+    void shouldLeaveContainerToRelayHoldingOneOfItsEvents() throws Exception {
+        // Given
+        ContainerOutboxEvent claimedElsewhere = outboxEvent(1, 7, 1);
+        ContainerOutboxEvent laterChange = outboxEvent(2, 7, 2);
+        ContainerOutboxEvent other = outboxEvent(3, 8, 0);
+        givenPendingEvents(claimedElsewhere, laterChange, other);
+        heldElsewhere.add(claimedElsewhere);
+        given(containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2))).willReturn(List.of(laterChange, other));
+
+        // When
+        int delivered = containerOutboxRelay.relay();
+
+        // Then
+        assertThat(delivered).isOne();
+        verify(containerOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() throws Exception {
+        // Given
+        given(containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2))).willReturn(List.of());
+
+        // When
+        int delivered = containerOutboxRelay.relay();
+
+        // Then
+        assertThat(delivered).isZero();
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBatchSizeIsInvalid() {
+        // Then
+        assertThatThrownBy(() -> new ContainerOutboxRelay(
+                        containerOutboxRepository, List.of(sink), TransactionOperations.withoutTransaction(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.practice.portcontainertrackingbackend.unit.application.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+import com.practice.portcontainertrackingbackend.application.outbox.ContainerOutboxWriter;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ContainerOutboxWriterTests {
+
+    @Mock
+    private ContainerOutboxRepository containerOutboxRepository;
+
+    @InjectMocks
+    private ContainerOutboxWriter containerOutboxWriter;
+
+    @Test
+    void shouldStoreEventInOutbox() {
+        // Given
+        Container container = Container.builder()
+                .id(1)
+                .code("ABC")
+                .status(ContainerStatus.CUSTOMS_CLEARANCE)
+                .build();
+        ContainerEvent event = ContainerEvent.updated(container, ContainerStatus.UNLOADING);
+
+        // When
+        containerOutboxWriter.onContainerEvent(event);
+
+        // Then
+        ArgumentCaptor<ContainerOutboxEvent> stored = ArgumentCaptor.forClass(ContainerOutboxEvent.class);
+        verify(containerOutboxRepository).save(stored.capture());
+        ContainerEvent relayed = stored.getValue().toContainerEvent();
+        assertThat(relayed)
+                .usingRecursiveComparison()
+                .isEqualTo(event);
+    }
+}
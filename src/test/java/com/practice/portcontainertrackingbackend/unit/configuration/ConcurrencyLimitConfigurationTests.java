@@ -0,0 +1,54 @@
+package com.practice.portcontainertrackingbackend.unit.configuration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.configuration.ConcurrencyLimitConfiguration;
+import com.practice.portcontainertrackingbackend.configuration.ReadReplicaConfiguration;
+import com.practice.portcontainertrackingbackend.utilities.AimdConcurrencyLimit;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+
+public class ConcurrencyLimitConfigurationTests {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaConfiguration.class, ConcurrencyLimitConfiguration.class)
+            .withPropertyValues(
+                    "container.concurrency-limit.enabled=true",
+                    "spring.datasource.url=jdbc:h2:mem:concurrency-limit",
+                    "spring.datasource.hikari.maximum-pool-size=7");
+
+    @Test
+    void shouldStartAtPoolSize() {
+        contextRunner.run(context -> {
+            // Then
+            assertThat(limit(context, "readConcurrencyLimit")).isEqualTo(7);
+            assertThat(limit(context, "writeConcurrencyLimit")).isEqualTo(7);
+        });
+    }
+
+    @Test
+    void shouldStartAtPrimaryPoolSizeBehindReplicaRouting() {
+        contextRunner
+                .withPropertyValues("container.datasource.replicas.urls=jdbc:h2:mem:concurrency-limit-replica")
+                .run(context -> {
+                    // Then
+                    assertThat(limit(context, "readConcurrencyLimit")).isEqualTo(7);
+                    assertThat(limit(context, "writeConcurrencyLimit")).isEqualTo(7);
+                });
+    }
+
+    @Test
+    void shouldStartAtConfiguredCapWhenBelowPoolSize() {
+        contextRunner.withPropertyValues("container.concurrency-limit.max-concurrent=5").run(context -> {
+            // Then
+            assertThat(limit(context, "readConcurrencyLimit")).isEqualTo(5);
+        });
+    }
+
+    private static int limit(ApplicationContext context, String name) {
+        return context.getBean(name, AimdConcurrencyLimit.class).getLimit();
+    }
+}
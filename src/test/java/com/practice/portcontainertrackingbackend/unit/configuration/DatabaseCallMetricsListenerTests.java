@@ -0,0 +1,47 @@
+package com.practice.portcontainertrackingbackend.unit.configuration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.configuration.DatabaseCallMetricsListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DatabaseCallMetricsListenerTests {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        DatabaseCallMetricsListener.bindTo(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordStatementsOfSessionWhenItEnds() {
+        // Given
+        DatabaseCallMetricsListener listener = new DatabaseCallMetricsListener();
+
+        // When
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+        listener.end();
+
+        // Then
+        assertThat(meterRegistry.get("container.db.statements").summary().totalAmount())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("container.db.time").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRecordSessionsWithoutStatements() {
+        // When
+        new DatabaseCallMetricsListener().end();
+
+        // Then
+        assertThat(meterRegistry.get("container.db.statements").summary().count())
+                .isZero();
+    }
+}
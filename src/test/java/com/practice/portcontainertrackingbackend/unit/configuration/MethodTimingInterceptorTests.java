@@ -0,0 +1,83 @@
+package com.practice.portcontainertrackingbackend.unit.configuration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+import com.practice.portcontainertrackingbackend.application.ContainerService;
+import com.practice.portcontainertrackingbackend.configuration.MethodTimingInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MethodTimingInterceptorTests {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MethodTimingInterceptor interceptor;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new MethodTimingInterceptor("container.service", () -> meterRegistry);
+    }
+
+    @Test
+    void shouldTimeSuccessfulCallsPerMethod() throws Throwable {
+        // Given
+        given(invocation.getMethod()).willReturn(ContainerService.class.getMethod("getAllContainers"));
+        given(invocation.proceed()).willReturn(List.of());
+
+        // When
+        Object result = interceptor.invoke(invocation);
+        interceptor.invoke(invocation);
+
+        // Then
+        assertThat(result).isEqualTo(List.of());
+        assertThat(meterRegistry
+                        .get("container.service")
+                        .tag("method", "getAllContainers")
+                        .tag("outcome", "SUCCESS")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldTimeFailedCallsAndRethrow() throws Throwable {
+        // Given
+        given(invocation.getMethod()).willReturn(ContainerService.class.getMethod("getStatusSummary"));
+        given(invocation.proceed()).willThrow(new IllegalStateException("boom"));
+
+        // Then
+        assertThatThrownBy(() -> interceptor.invoke(invocation)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry
+                        .get("container.service")
+                        .tag("method", "getStatusSummary")
+                        .tag("outcome", "ERROR")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotTimeObjectMethods() throws Throwable {
+        // Given
+        given(invocation.getMethod()).willReturn(Object.class.getMethod("toString"));
+        given(invocation.proceed()).willReturn("service");
+
+        // When
+        interceptor.invoke(invocation);
+
+        // Then
+        assertThat(meterRegistry.find("container.service").timers()).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.practice.portcontainertrackingbackend.unit.configuration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.practice.portcontainertrackingbackend.configuration.ReadWriteRoutingDataSource;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSourceTests {
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection firstReplicaConnection = mock(Connection.class);
+    private final Connection secondReplicaConnection = mock(Connection.class);
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        dataSource = new ReadWriteRoutingDataSource(
+                dataSource(primaryConnection),
+                List.of(dataSource(firstReplicaConnection), dataSource(secondReplicaConnection)));
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    private static DataSource dataSource(Connection connection) throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    @Test
+    void shouldUsePrimaryOutsideReadOnlyTransactions() throws Exception {
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(ReadYourWrites.isReplicaRead()).isFalse();
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverReplicas() throws Exception {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        List<Connection> connections =
+                List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection());
+
+        // Then
+        assertThat(connections)
+                .containsExactly(firstReplicaConnection, secondReplicaConnection, firstReplicaConnection);
+        assertThat(ReadYourWrites.isReplicaRead()).isTrue();
+    }
+
+    @Test
+    void shouldUsePrimaryForReadOnlyTransactionsThatMustReadTheirWrites() throws Exception {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.requirePrimary();
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(ReadYourWrites.isReplicaRead()).isFalse();
+    }
+
+    @Test
+    void shouldCloseReplicaPools() throws Exception {
+        // Given
+        HikariDataSource replica = mock(HikariDataSource.class);
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(mock(DataSource.class), List.of(replica));
+
+        // When
+        routingDataSource.close();
+
+        // Then
+        verify(replica).close();
+    }
+
+    @Test
+    void shouldRejectMissingReplicas() {
+        // Then
+        assertThatThrownBy(() -> new ReadWriteRoutingDataSource(mock(DataSource.class), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.practice.portcontainertrackingbackend.unit.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class ContainerStatusTests {
+
+    @ParameterizedTest
+    @CsvSource({
+        "UNLOADING, CUSTOMS_CLEARANCE",
+        "CUSTOMS_CLEARANCE, DECONSOLIDATION",
+        "DECONSOLIDATION, READY_FOR_PICKUP",
+        "READY_FOR_PICKUP, PICKED_UP"
+    })
+    void shouldAllowNextStatusInLifecycle(ContainerStatus from, ContainerStatus to) {
+        // Then
+        assertThat(from.canTransitionTo(to)).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "UNLOADING, UNLOADING",
+        "UNLOADING, PICKED_UP",
+        "READY_FOR_PICKUP, CUSTOMS_CLEARANCE",
+        "PICKED_UP, UNLOADING"
+    })
+    void shouldRejectTransitionsOutsideLifecycle(ContainerStatus from, ContainerStatus to) {
+        // Then
+        assertThat(from.canTransitionTo(to)).isFalse();
+    }
+
+    @Test
+    void shouldNotLeavePickedUpStatus() {
+        // Then
+        for (ContainerStatus target : ContainerStatus.values()) {
+            assertThat(ContainerStatus.PICKED_UP.canTransitionTo(target)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.practice.portcontainertrackingbackend.unit.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import java.time.Duration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class DwellTimeSketchTests {
+
+    private DwellTimeSketch sketchOfMinutes(int fromMinute, int toMinute) {
+        DwellTimeSketch sketch = new DwellTimeSketch();
+        for (int minute = fromMinute; minute <= toMinute; minute++) {
+            sketch.add(Duration.ofMinutes(minute));
+        }
+        return sketch;
+    }
+
+    @Nested
+    class Quantiles {
+        @Test
+        void shouldReturnQuantilesWithinRelativeAccuracy() {
+            // Given
+            DwellTimeSketch sketch = sketchOfMinutes(1, 1000);
+
+            // Then
+            assertThat(sketch.getCount()).isEqualTo(1000);
+            assertThat(sketch.meanSeconds()).isEqualTo(500 * 60 + 30);
+            assertThat(sketch.quantileSeconds(0.5)).isCloseTo(500 * 60, withinPercentage(2));
+            assertThat(sketch.quantileSeconds(0.95)).isCloseTo(950 * 60, withinPercentage(2));
+            assertThat(sketch.quantileSeconds(1)).isCloseTo(1000 * 60, withinPercentage(2));
+        }
+
+        @Test
+        void shouldReturnZeroWhenEmpty() {
+            // Given
+            DwellTimeSketch sketch = new DwellTimeSketch();
+
+            // Then
+            assertThat(sketch.meanSeconds()).isZero();
+            assertThat(sketch.quantileSeconds(0.95)).isZero();
+        }
+
+        @Test
+        void shouldKeepVeryLongDwellTimesInLastBucket() {
+            // Given
+            DwellTimeSketch sketch = new DwellTimeSketch();
+            sketch.add(Duration.ofDays(20_000));
+
+            // Then
+            assertThat(sketch.quantileSeconds(0.5)).isCloseTo(Duration.ofDays(3650).toSeconds(), withinPercentage(2));
+        }
+
+        @Test
+        void shouldThrowExceptionWhenQuantileIsOutOfRange() {
+            // Then
+            assertThatThrownBy(() -> new DwellTimeSketch().quantileSeconds(1.5))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Merge {
+        @Test
+        void shouldEqualSketchOfAllValues() {
+            // Given
+            DwellTimeSketch first = sketchOfMinutes(1, 400);
+            DwellTimeSketch all = sketchOfMinutes(1, 1000);
+
+            // When
+            first.merge(sketchOfMinutes(401, 1000));
+
+            // Then
+            assertThat(first.toBytes()).isEqualTo(all.toBytes());
+        }
+    }
+
+    @Nested
+    class Serialization {
+        @Test
+        void shouldRoundTripThroughBytes() {
+            // Given
+            DwellTimeSketch sketch = sketchOfMinutes(30, 90);
+
+            // When
+            DwellTimeSketch restored = DwellTimeSketch.fromBytes(sketch.toBytes());
+
+            // Then
+            assertThat(restored.getCount()).isEqualTo(sketch.getCount());
+            assertThat(restored.meanSeconds()).isEqualTo(sketch.meanSeconds());
+            assertThat(restored.quantileSeconds(0.95)).isEqualTo(sketch.quantileSeconds(0.95));
+        }
+
+        @Test
+        void shouldStoreOnlyNonEmptyBuckets() {
+            // Given
+            DwellTimeSketch sketch = new DwellTimeSketch();
+            sketch.add(Duration.ofHours(2));
+            sketch.add(Duration.ofHours(2));
+
+            // Then
+            assertThat(sketch.toBytes()).hasSize(2 * Long.BYTES + Integer.BYTES + Short.BYTES + Long.BYTES);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenBytesAreInvalid() {
+            // Then
+            assertThatThrownBy(() -> DwellTimeSketch.fromBytes(new byte[] {1, 2, 3}))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.practice.portcontainertrackingbackend.unit.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.FrontCodedCodes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FrontCodedCodesTests {
+    private FrontCodedCodes codes;
+
+    @BeforeEach
+    public void setup() {
+        FrontCodedCodes.Builder builder = FrontCodedCodes.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(String.format("MSKU%07d", i * 10), 1);
+        }
+        builder.add("TGHU0000001", 300);
+        codes = builder.build();
+    }
+
+    private static List<String> codesFrom(FrontCodedCodes codes, String prefix, int limit) {
+        List<String> found = new ArrayList<>();
+        FrontCodedCodes.Cursor cursor = codes.seek(prefix);
+        while (found.size() < limit && cursor.next() && cursor.code().startsWith(prefix)) {
+            found.add(cursor.code() + "=" + cursor.count());
+        }
+        return found;
+    }
+
+    @Test
+    void shouldFindCodesByPrefixAcrossBlocks() {
+        // When
+        List<String> found = codesFrom(codes, "MSKU00001", 100);
+
+        // Then
+        assertThat(found).hasSize(10).startsWith("MSKU0000100=1").endsWith("MSKU0000190=1");
+        assertThat(codesFrom(codes, "MSKU0000160", 10)).containsExactly("MSKU0000160=1");
+        assertThat(codesFrom(codes, "MSKU00009", 3))
+                .containsExactly("MSKU0000900=1", "MSKU0000910=1", "MSKU0000920=1");
+    }
+
+    @Test
+    void shouldKeepCountsAndLongerVarints() {
+        // Then
+        assertThat(codesFrom(codes, "TGHU", 10)).containsExactly("TGHU0000001=300");
+        assertThat(codes.size()).isEqualTo(101);
+    }
+
+    @Test
+    void shouldFindNothingForUnknownPrefix() {
+        // Then
+        assertThat(codesFrom(codes, "ZZZ", 10)).isEmpty();
+        assertThat(codesFrom(codes, "MSKU1", 10)).isEmpty();
+        assertThat(codesFrom(FrontCodedCodes.EMPTY, "MSKU", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldStoreSortedCodesInFewBytesPerCode() {
+        // Then
+        assertThat(codes.sizeInBytes()).isLessThan(101 * 8 + 200);
+    }
+
+    @Test
+    void shouldRejectCodesOutOfOrder() {
+        // Given
+        FrontCodedCodes.Builder builder = FrontCodedCodes.builder();
+        builder.add("MSKU2", 1);
+
+        // Then
+        assertThat(builder.add("MSKU1", 1)).isFalse();
+        assertThat(builder.add("MSKU2", 1)).isFalse();
+        assertThat(builder.build().size()).isOne();
+        assertThatThrownBy(() -> builder.add("MSKU3", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMergeCountChanges() {
+        // Given
+        TreeMap<String, Integer> changes = new TreeMap<>();
+        changes.put("AAAA0000000", 1);
+        changes.put("MSKU0000000", -1);
+        changes.put("MSKU0000010", 2);
+        changes.put("MSKU0000015", -1);
+
+        // When
+        FrontCodedCodes merged = codes.merge(changes);
+
+        // Then
+        assertThat(merged.size()).isEqualTo(101);
+        assertThat(codesFrom(merged, "", 3)).containsExactly("AAAA0000000=1", "MSKU0000010=3", "MSKU0000020=1");
+    }
+}
@@ -0,0 +1,77 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.ArchivedContainer;
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerArchiveRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ContainerArchiveRepositoryTests {
+
+    private final Instant pickedUpAt = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private ContainerArchiveRepository containerArchiveRepository;
+
+    @Autowired
+    private ContainerRepository containerRepository;
+
+    private Container save(String code) {
+        return containerRepository.save(Container.builder()
+                .code(code)
+                .status(ContainerStatus.PICKED_UP)
+                .statusChangedAt(pickedUpAt)
+                .build());
+    }
+
+    @Test
+    void shouldCopyGivenContainersKeepingTheirIds() {
+        // Given
+        Container archived = save("CSQU3054383");
+        Container kept = save("MSKU1234565");
+
+        // When
+        int archivedRows = containerArchiveRepository.archive(List.of(archived.getId()));
+
+        // Then
+        assertThat(archivedRows).isOne();
+        ArchivedContainer archivedContainer =
+                containerArchiveRepository.findById(archived.getId()).orElseThrow();
+        assertThat(archivedContainer.getCode()).isEqualTo("CSQU3054383");
+        assertThat(archivedContainer.getCodeKey()).isEqualTo(Iso6346.encode("CSQU3054383"));
+        assertThat(archivedContainer.getStatus()).isEqualTo(ContainerStatus.PICKED_UP);
+        assertThat(archivedContainer.getStatusChangedAt()).isEqualTo(pickedUpAt);
+        assertThat(archivedContainer.getVersion()).isEqualTo(archived.getVersion());
+        assertThat(archivedContainer.getArchivedAt()).isNotNull();
+        assertThat(containerArchiveRepository.findById(kept.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldConvertToContainer() {
+        // Given
+        Container archived = save("CSQU3054383");
+        containerArchiveRepository.archive(List.of(archived.getId()));
+
+        // When
+        Container container = containerArchiveRepository
+                .findById(archived.getId())
+                .map(ArchivedContainer::toContainer)
+                .orElseThrow();
+
+        // Then
+        assertThat(container.getId()).isEqualTo(archived.getId());
+        assertThat(container.getCode()).isEqualTo("CSQU3054383");
+        assertThat(container.getStatus()).isEqualTo(ContainerStatus.PICKED_UP);
+    }
+}
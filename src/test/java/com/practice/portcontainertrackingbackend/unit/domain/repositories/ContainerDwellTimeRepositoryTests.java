@@ -0,0 +1,69 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTime;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.DwellTimeSketch;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerDwellTimeRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ContainerDwellTimeRepositoryTests {
+
+    private static final Instant HOUR = Instant.parse("2026-10-18T08:00:00Z");
+
+    @Autowired
+    private ContainerDwellTimeRepository containerDwellTimeRepository;
+
+    private ContainerDwellTime dwellTime(ContainerStatus status, Instant hourStart, Duration dwell) {
+        DwellTimeSketch sketch = new DwellTimeSketch();
+        sketch.add(dwell);
+        return ContainerDwellTime.builder()
+                .status(status)
+                .hourStart(hourStart)
+                .sketch(sketch.toBytes())
+                .build();
+    }
+
+    @BeforeEach
+    public void setup() {
+        containerDwellTimeRepository.saveAll(List.of(
+                dwellTime(ContainerStatus.UNLOADING, HOUR, Duration.ofHours(1)),
+                dwellTime(ContainerStatus.CUSTOMS_CLEARANCE, HOUR, Duration.ofHours(30)),
+                dwellTime(ContainerStatus.UNLOADING, HOUR.plusSeconds(3600), Duration.ofHours(2))));
+    }
+
+    @Test
+    void shouldFindHourOfStatusWithSketch() {
+        // When
+        Optional<ContainerDwellTime> dwellTime =
+                containerDwellTimeRepository.findByStatusAndHourStart(ContainerStatus.CUSTOMS_CLEARANCE, HOUR);
+
+        // Then
+        assertThat(dwellTime).isPresent();
+        assertThat(DwellTimeSketch.fromBytes(dwellTime.get().getSketch()).meanSeconds())
+                .isEqualTo(Duration.ofHours(30).toSeconds());
+    }
+
+    @Test
+    void shouldFindHoursWithinRange() {
+        // When
+        List<ContainerDwellTime> dwellTimes =
+                containerDwellTimeRepository.findByHourStartGreaterThanEqualAndHourStartLessThan(
+                        HOUR.plusSeconds(3600), HOUR.plusSeconds(7200));
+
+        // Then
+        assertThat(dwellTimes).hasSize(1);
+        assertThat(dwellTimes.get(0).getStatus()).isEqualTo(ContainerStatus.UNLOADING);
+    }
+}
@@ -0,0 +1,71 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerExportRepository;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ContainerExportRepository.class)
+public class ContainerExportRepositoryTests {
+
+    @Autowired
+    private ContainerRepository containerRepository;
+
+    @Autowired
+    private ContainerExportRepository containerExportRepository;
+
+    @Test
+    void shouldStreamAllContainersOrderedById() {
+        // Given
+        Container first = containerRepository.saveAndFlush(Instancio.create(Container.class));
+        Container second = containerRepository.saveAndFlush(Instancio.create(Container.class));
+        List<Container> exported = new ArrayList<>();
+
+        // When
+        containerExportRepository.streamAll(exported::add);
+
+        // Then
+        assertThat(exported).hasSize(2);
+        assertThat(exported.get(0).getId()).isEqualTo(first.getId());
+        assertThat(exported.get(0).getCode()).isEqualTo(first.getCode());
+        assertThat(exported.get(1).getStatus()).isEqualTo(second.getStatus());
+    }
+
+    @Test
+    void shouldStreamCodeCountsInOrder() {
+        // Given
+        containerRepository.saveAndFlush(Instancio.create(Container.class).withCode("MSKU2"));
+        containerRepository.saveAndFlush(Instancio.create(Container.class).withCode("MSKU1"));
+        containerRepository.saveAndFlush(Instancio.create(Container.class).withCode("MSKU2"));
+        List<String> codeCounts = new ArrayList<>();
+
+        // When
+        containerExportRepository.streamCodeCounts((code, count) -> codeCounts.add(code + "=" + count));
+
+        // Then
+        assertThat(codeCounts).containsExactly("MSKU1=1", "MSKU2=2");
+    }
+
+    @Test
+    void shouldStreamNothingWhenNoContainersExist() {
+        // Given
+        List<Container> exported = new ArrayList<>();
+
+        // When
+        containerExportRepository.streamAll(exported::add);
+
+        // Then
+        assertThat(exported).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerIdempotencyKey;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerIdempotencyKeyRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ContainerIdempotencyKeyRepositoryTests {
+
+    private final Instant now = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Autowired
+    private ContainerIdempotencyKeyRepository containerIdempotencyKeyRepository;
+
+    private ContainerIdempotencyKey key(String idempotencyKey, Instant createdAt) {
+        Container container = Container.builder()
+                .id(1)
+                .code("MSCU1234565")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        return ContainerIdempotencyKey.of(idempotencyKey, container, createdAt);
+    }
+
+    @Test
+    void shouldReturnStoredContainer() {
+        // Given
+        containerIdempotencyKeyRepository.saveAndFlush(key("a", now));
+
+        // When
+        Container container = containerIdempotencyKeyRepository
+                .findById("a")
+                .map(ContainerIdempotencyKey::toContainer)
+                .orElseThrow();
+
+        // Then
+        assertThat(container.getId()).isEqualTo(1);
+        assertThat(container.getCode()).isEqualTo("MSCU1234565");
+    }
+
+    @Test
+    void shouldRejectDuplicateKey() {
+        // Given
+        containerIdempotencyKeyRepository.saveAndFlush(key("a", now));
+
+        // Then
+        assertThatThrownBy(() -> containerIdempotencyKeyRepository.saveAndFlush(key("a", now)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldDeleteKeysCreatedBefore() {
+        // Given
+        containerIdempotencyKeyRepository.saveAllAndFlush(
+                List.of(key("old", now.minus(Duration.ofDays(2))), key("new", now)));
+
+        // When
+        int deleted = containerIdempotencyKeyRepository.deleteCreatedBefore(now.minus(Duration.ofDays(1)));
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(containerIdempotencyKeyRepository.existsById("new")).isTrue();
+    }
+}
@@ -0,0 +1,77 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerOutboxEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerOutboxRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ContainerOutboxRepositoryTests {
+
+    @Autowired
+    private ContainerOutboxRepository containerOutboxRepository;
+
+    private ContainerOutboxEvent outboxEvent(String code) {
+        Container container = Container.builder()
+                .id(1)
+                .code(code)
+                .status(ContainerStatus.UNLOADING)
+                .build();
+        return ContainerOutboxEvent.of(ContainerEvent.created(container));
+    }
+
+    @Test
+    void shouldClaimOldestEventsFirst() {
+        // Given
+        containerOutboxRepository.saveAll(List.of(outboxEvent("A"), outboxEvent("B"), outboxEvent("C")));
+
+        // When
+        List<ContainerOutboxEvent> batch = containerOutboxRepository.findAllByOrderByIdAsc(Limit.of(2));
+
+        // Then
+        assertThat(batch).extracting(ContainerOutboxEvent::getCode).containsExactly("A", "B");
+    }
+
+    @Test
+    void shouldClaimEveryPendingEventOfGivenContainers() {
+        // Given
+        ContainerOutboxEvent otherContainer = outboxEvent("C");
+        otherContainer.setContainerId(2);
+        containerOutboxRepository.saveAll(List.of(outboxEvent("A"), outboxEvent("B"), otherContainer));
+
+        // When
+        List<ContainerOutboxEvent> claimed = containerOutboxRepository.findByContainerIdIn(Set.of(1));
+        List<Integer> pending = containerOutboxRepository.findContainerIdsOfPendingEvents(Set.of(1, 2));
+
+        // Then
+        assertThat(claimed).extracting(ContainerOutboxEvent::getCode).containsExactlyInAnyOrder("A", "B");
+        assertThat(pending).containsExactlyInAnyOrder(1, 1, 2);
+    }
+
+    @Test
+    void shouldDeleteClaimedBatchInOneStatement() {
+        // Given
+        List<ContainerOutboxEvent> saved =
+                containerOutboxRepository.saveAll(List.of(outboxEvent("A"), outboxEvent("B"), outboxEvent("C")));
+
+        // When
+        containerOutboxRepository.deleteAllByIdInBatch(
+                List.of(saved.get(0).getId(), saved.get(1).getId()));
+
+        // Then
+        assertThat(containerOutboxRepository.findAll())
+                .extracting(ContainerOutboxEvent::getCode)
+                .containsExactly("C");
+    }
+}
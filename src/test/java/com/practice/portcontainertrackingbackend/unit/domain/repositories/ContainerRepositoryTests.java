@@ -3,7 +3,11 @@ package com.practice.portcontainertrackingbackend.unit.domain.repositories;
 import static org.assertj.core.api.Assertions.*;
 
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusCount;
 import com.practice.portcontainertrackingbackend.domain.repositories.ContainerRepository;
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.instancio.Instancio;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -46,6 +51,34 @@ public class ContainerRepositoryTests {
             assertThat(containerRetrieved.getId()).isPositive();
         }
 
+        @Test
+        void shouldPersistAllObjectsWithSequenceIdsWhenSaveAll() {
+            // Given
+            List<Container> containers =
+                    List.of(container.withId(0), generateContainer().withId(0), generateContainer().withId(0));
+
+            // When
+            List<Container> containersSaved = containerRepository.saveAll(containers);
+
+            // Then
+            assertThat(containersSaved).hasSize(3).extracting(Container::getId).allMatch(id -> id > 0);
+            assertThat(containersSaved.get(1).getId()).isGreaterThan(containersSaved.get(0).getId());
+        }
+
+        @Test
+        void shouldPersistCodeKeyOnlyForValidCodes() {
+            // Given
+            Container isoContainer = container.withId(0).withCode("CSQU3054383");
+            Container freeFormContainer = generateContainer().withId(0).withCode("ABC");
+
+            // When
+            containerRepository.saveAll(List.of(isoContainer, freeFormContainer));
+
+            // Then
+            assertThat(isoContainer.getCodeKey()).isEqualTo(Iso6346.encode("CSQU3054383"));
+            assertThat(freeFormContainer.getCodeKey()).isNull();
+        }
+
         @Test
         void shouldThrowExceptionWhenSaveInvalidObject() {
             // Given an invalid container
@@ -71,6 +104,53 @@ public class ContainerRepositoryTests {
             assertThat(containerRetrieved).isNotNull();
         }
 
+        @Test
+        void shouldRetrieveLatestObjectWithCode() {
+            // Given
+            containerRepository.save(container);
+            Container latest = containerRepository.save(generateContainer().withCode(container.getCode()));
+
+            // When
+            Optional<Container> containerRetrieved =
+                    containerRepository.findFirstByCodeOrderByIdDesc(container.getCode());
+
+            // Then
+            assertThat(containerRetrieved).get().extracting(Container::getId).isEqualTo(latest.getId());
+        }
+
+        @Test
+        void shouldRetrieveLatestObjectWithCodeKey() {
+            // Given
+            containerRepository.save(container.withId(0).withCode("CSQU3054383"));
+            Container latest = containerRepository.save(generateContainer().withId(0).withCode("CSQU3054383"));
+
+            // When
+            Optional<Container> containerRetrieved =
+                    containerRepository.findFirstByCodeKeyOrderByIdDesc(Iso6346.encode("CSQU3054383"));
+
+            // Then
+            assertThat(containerRetrieved).get().extracting(Container::getId).isEqualTo(latest.getId());
+        }
+
+        @Test
+        void shouldRetrieveObjectsWithoutCodeKeyAndSetItWhileCodeIsUnchanged() {
+            // Given
+            Container freeForm = containerRepository.save(container.withId(0).withCode("ABC"));
+            containerRepository.save(generateContainer().withId(0).withCode("CSQU3054383"));
+
+            // When
+            List<Container> containersWithoutKey =
+                    containerRepository.findByCodeKeyIsNullAndIdGreaterThanOrderByIdAsc(0, Limit.of(10));
+            int staleRows = containerRepository.updateCodeKeyByIdAndCode(freeForm.getId(), "XYZ", 1L);
+            int updatedRows = containerRepository.updateCodeKeyByIdAndCode(freeForm.getId(), "ABC", 1L);
+
+            // Then
+            assertThat(containersWithoutKey).extracting(Container::getId).containsExactly(freeForm.getId());
+            assertThat(staleRows).isZero();
+            assertThat(updatedRows).isOne();
+            assertThat(containerRepository.findFirstByCodeKeyOrderByIdDesc(1L)).isPresent();
+        }
+
         @Test
         void shouldRetrieveEmptyWhenObjectDoesNotExist() {
             // Given
@@ -113,10 +193,317 @@ public class ContainerRepositoryTests {
             // Then
             assertThat(containers).isEmpty();
         }
+
+        @Test
+        void shouldCountContainersPerStatus() {
+            // Given
+            containerRepository.save(container.withStatus(ContainerStatus.UNLOADING));
+            containerRepository.save(generateContainer().withStatus(ContainerStatus.UNLOADING));
+            containerRepository.save(generateContainer().withStatus(ContainerStatus.PICKED_UP));
+
+            // When
+            List<ContainerStatusCount> statusCounts = containerRepository.countByStatus();
+
+            // Then
+            assertThat(statusCounts)
+                    .extracting(ContainerStatusCount::getStatus, ContainerStatusCount::getTotal)
+                    .containsExactlyInAnyOrder(
+                            tuple(ContainerStatus.UNLOADING, 2L), tuple(ContainerStatus.PICKED_UP, 1L));
+        }
+
+        @Test
+        void shouldReturnContainersInStatusAfterGivenIdOrderedById() {
+            // Given
+            Container first = containerRepository.save(container.withId(0).withStatus(ContainerStatus.PICKED_UP));
+            containerRepository.save(generateContainer().withId(0).withStatus(ContainerStatus.UNLOADING));
+            Container second =
+                    containerRepository.save(generateContainer().withId(0).withStatus(ContainerStatus.PICKED_UP));
+            Container third =
+                    containerRepository.save(generateContainer().withId(0).withStatus(ContainerStatus.PICKED_UP));
+
+            // When
+            List<Container> containers =
+                    containerRepository.findByStatusAfterId(ContainerStatus.PICKED_UP, first.getId(), Limit.of(1));
+            List<Container> lastContainers =
+                    containerRepository.findByStatusAfterId(ContainerStatus.PICKED_UP, second.getId(), Limit.of(10));
+
+            // Then
+            assertThat(containers).singleElement().satisfies(retrieved -> {
+                assertThat(retrieved.getId()).isEqualTo(second.getId());
+                assertThat(retrieved.getCode()).isEqualTo(second.getCode());
+                assertThat(retrieved.getVersion()).isEqualTo(second.getVersion());
+            });
+            assertThat(lastContainers).extracting(Container::getId).containsExactly(third.getId());
+        }
+
+        @Test
+        void shouldReturnContainersAfterGivenIdOrderedById() {
+            // Given
+            Container first = containerRepository.save(container);
+            Container second = containerRepository.save(generateContainer());
+            Container third = containerRepository.save(generateContainer());
+
+            // When
+            List<Container> containers =
+                    containerRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(1));
+
+            // Then
+            assertThat(containers).hasSize(1);
+            assertThat(containers.get(0).getId()).isEqualTo(second.getId());
+            assertThat(third.getId()).isGreaterThan(second.getId());
+        }
+    }
+
+    @Nested
+    class UpdateContainer {
+        @Test
+        void shouldUpdateNonNullFieldsWhenObjectExists() {
+            // Given
+            Container savedContainer = containerRepository.save(container);
+            Container newContainer = generateContainer();
+
+            // When
+            int updatedRows = containerRepository.updateCodeAndStatusById(
+                    savedContainer.getId(), newContainer.getCode(), null);
+
+            // Then
+            assertThat(updatedRows).isOne();
+            Container containerRetrieved =
+                    containerRepository.findById(savedContainer.getId()).orElseThrow();
+            assertThat(containerRetrieved.getCode()).isEqualTo(newContainer.getCode());
+            assertThat(containerRetrieved.getStatus()).isEqualTo(savedContainer.getStatus());
+        }
+
+        @Test
+        void shouldIncrementVersionOnEveryUpdate() {
+            // Given
+            Container savedContainer = containerRepository.save(container.withId(0).withVersion(0));
+            long version = savedContainer.getVersion();
+
+            // When
+            containerRepository.updateCodeAndStatusById(savedContainer.getId(), "ABC", null);
+            containerRepository.compareAndSetStatus(
+                    savedContainer.getId(), savedContainer.getStatus(), savedContainer.getStatus());
+
+            // Then
+            assertThat(containerRepository.findById(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getVersion)
+                    .isEqualTo(version + 2);
+        }
+
+        @Test
+        void shouldUpdateOnlyWhenVersionMatches() {
+            // Given
+            Container savedContainer = containerRepository.save(container.withId(0).withVersion(0));
+            long version = savedContainer.getVersion();
+
+            // When
+            int firstWriter = containerRepository.updateCodeAndStatusByIdAndVersion(
+                    savedContainer.getId(), "ABC", null, version);
+            int secondWriter = containerRepository.updateCodeAndStatusByIdAndVersion(
+                    savedContainer.getId(), "XYZ", null, version);
+
+            // Then
+            assertThat(firstWriter).isOne();
+            assertThat(secondWriter).isZero();
+            assertThat(containerRepository.findById(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getCode)
+                    .isEqualTo("ABC");
+        }
+
+        @Test
+        void shouldKeepCodeKeyInStepWithCode() {
+            // Given
+            Container savedContainer =
+                    containerRepository.save(container.withId(0).withVersion(0).withCode("ABC"));
+
+            // When
+            containerRepository.updateCodeAndStatusById(savedContainer.getId(), "CSQU3054383", null);
+            Long keyOfIsoCode = containerRepository
+                    .findById(savedContainer.getId())
+                    .orElseThrow()
+                    .getCodeKey();
+            containerRepository.updateCodeAndStatusById(
+                    savedContainer.getId(), null, ContainerStatus.CUSTOMS_CLEARANCE);
+            Long keyAfterStatusUpdate = containerRepository
+                    .findById(savedContainer.getId())
+                    .orElseThrow()
+                    .getCodeKey();
+            containerRepository.updateCodeAndStatusByIdAndVersion(
+                    savedContainer.getId(), "XYZ", null, savedContainer.getVersion() + 2);
+
+            // Then
+            assertThat(keyOfIsoCode).isEqualTo(Iso6346.encode("CSQU3054383"));
+            assertThat(keyAfterStatusUpdate).isEqualTo(keyOfIsoCode);
+            assertThat(containerRepository.findById(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getCodeKey)
+                    .isNull();
+        }
+
+        @Test
+        void shouldUpdateNothingWhenObjectDoesNotExist() {
+            // Given
+            int containerId = 1;
+
+            // When
+            int updatedRows = containerRepository.updateCodeAndStatusById(containerId, "ABC", null);
+
+            // Then
+            assertThat(updatedRows).isZero();
+        }
+    }
+
+    @Nested
+    class StatusChangedAt {
+        @Test
+        void shouldSetStatusChangedAtOnInsertWhenNotGiven() {
+            // Given
+            Instant before = Instant.now();
+
+            // When
+            Container savedContainer = containerRepository.saveAndFlush(container.withId(0).withStatusChangedAt(null));
+
+            // Then
+            assertThat(savedContainer.getStatusChangedAt()).isAfterOrEqualTo(before);
+        }
+
+        @Test
+        void shouldChangeStatusChangedAtOnlyWhenStatusChanges() {
+            // Given
+            Instant longAgo = Instant.parse("2024-01-01T00:00:00Z");
+            Container savedContainer = containerRepository.save(container
+                    .withId(0)
+                    .withStatus(ContainerStatus.UNLOADING)
+                    .withStatusChangedAt(longAgo));
+
+            // When
+            containerRepository.updateCodeAndStatusById(savedContainer.getId(), "ABC", ContainerStatus.UNLOADING);
+            Instant afterCodeUpdate = containerRepository
+                    .findById(savedContainer.getId())
+                    .orElseThrow()
+                    .getStatusChangedAt();
+            containerRepository.compareAndSetStatus(
+                    savedContainer.getId(), ContainerStatus.UNLOADING, ContainerStatus.PICKED_UP);
+
+            // Then
+            assertThat(afterCodeUpdate).isEqualTo(longAgo);
+            assertThat(containerRepository.findById(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getStatusChangedAt)
+                    .isNotEqualTo(longAgo);
+        }
+    }
+
+    @Nested
+    class ArchiveContainer {
+        @Test
+        void shouldLockOldestContainersInStatusSinceBeforeGivenTime() {
+            // Given
+            Instant cutoff = Instant.parse("2024-06-01T00:00:00Z");
+            Instant longAgo = Instant.parse("2024-01-01T00:00:00Z");
+            Container second = containerRepository.save(
+                    container.withId(0).withStatus(ContainerStatus.PICKED_UP).withStatusChangedAt(longAgo));
+            containerRepository.save(generateContainer()
+                    .withId(0)
+                    .withStatus(ContainerStatus.PICKED_UP)
+                    .withStatusChangedAt(cutoff.plusSeconds(1)));
+            containerRepository.save(generateContainer()
+                    .withId(0)
+                    .withStatus(ContainerStatus.UNLOADING)
+                    .withStatusChangedAt(longAgo.minusSeconds(60)));
+            Container first = containerRepository.save(generateContainer()
+                    .withId(0)
+                    .withStatus(ContainerStatus.PICKED_UP)
+                    .withStatusChangedAt(longAgo.minusSeconds(60)));
+            containerRepository.save(generateContainer()
+                    .withId(0)
+                    .withStatus(ContainerStatus.PICKED_UP)
+                    .withStatusChangedAt(longAgo.plusSeconds(60)));
+
+            // When
+            List<Container> containers =
+                    containerRepository.findInStatusBeforeForUpdate(ContainerStatus.PICKED_UP, cutoff, Limit.of(2));
+
+            // Then
+            assertThat(containers).extracting(Container::getId).containsExactly(first.getId(), second.getId());
+        }
+
+        @Test
+        void shouldDeleteGivenContainersInOneStatement() {
+            // Given
+            Container first = containerRepository.save(container.withId(0));
+            Container second = containerRepository.save(generateContainer().withId(0));
+            Container kept = containerRepository.save(generateContainer().withId(0));
+
+            // When
+            int deletedRows = containerRepository.deleteContainersByIds(List.of(first.getId(), second.getId()));
+
+            // Then
+            assertThat(deletedRows).isEqualTo(2);
+            assertThat(containerRepository.findAll()).extracting(Container::getId).containsExactly(kept.getId());
+        }
+    }
+
+    @Nested
+    class TransitionContainer {
+        @Test
+        void shouldChangeStatusOnlyWhenExpectedStatusMatches() {
+            // Given
+            Container savedContainer = containerRepository.save(container.withStatus(ContainerStatus.UNLOADING));
+
+            // When
+            int firstScanner = containerRepository.compareAndSetStatus(
+                    savedContainer.getId(), ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE);
+            int secondScanner = containerRepository.compareAndSetStatus(
+                    savedContainer.getId(), ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE);
+
+            // Then
+            assertThat(firstScanner).isOne();
+            assertThat(secondScanner).isZero();
+            assertThat(containerRepository.findById(savedContainer.getId()))
+                    .get()
+                    .extracting(Container::getStatus)
+                    .isEqualTo(ContainerStatus.CUSTOMS_CLEARANCE);
+        }
     }
 
     @Nested
     class DeleteContainer {
+        @Test
+        void shouldDeleteInOneStatementAndReturnCountWhenExist() {
+            // Given
+            Container savedContainer = containerRepository.save(container);
+
+            // When
+            int deletedRows = containerRepository.deleteContainerByIdAndVersion(
+                    savedContainer.getId(), savedContainer.getVersion());
+
+            // Then
+            assertThat(deletedRows).isOne();
+            assertThat(containerRepository.findById(savedContainer.getId())).isEmpty();
+            assertThat(containerRepository.deleteContainerByIdAndVersion(
+                            savedContainer.getId(), savedContainer.getVersion()))
+                    .isZero();
+        }
+
+        @Test
+        void shouldNotDeleteWhenVersionIsStale() {
+            // Given
+            Container savedContainer = containerRepository.save(container);
+            containerRepository.updateCodeAndStatusById(savedContainer.getId(), "ABC", null);
+
+            // When
+            int deletedRows = containerRepository.deleteContainerByIdAndVersion(
+                    savedContainer.getId(), savedContainer.getVersion());
+
+            // Then
+            assertThat(deletedRows).isZero();
+            assertThat(containerRepository.findById(savedContainer.getId())).isPresent();
+        }
+
         @Test
         void shouldDeleteObjectWhenExist() {
             // Given
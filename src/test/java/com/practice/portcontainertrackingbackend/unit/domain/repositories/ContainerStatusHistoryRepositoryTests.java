@@ -0,0 +1,83 @@
+package com.practice.portcontainertrackingbackend.unit.domain.repositories;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.repositories.ContainerStatusHistoryRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ContainerStatusHistoryRepositoryTests {
+
+    private static final Instant T0 = Instant.parse("2026-10-18T08:00:00Z");
+
+    @Autowired
+    private ContainerStatusHistoryRepository containerStatusHistoryRepository;
+
+    private ContainerStatusChange change(
+            int containerId, ContainerStatus previousStatus, ContainerStatus status, int hours) {
+        return ContainerStatusChange.builder()
+                .containerId(containerId)
+                .code("ABC" + containerId)
+                .previousStatus(previousStatus)
+                .status(status)
+                .changedAt(T0.plusSeconds(hours * 3600L))
+                .build();
+    }
+
+    @BeforeEach
+    public void setup() {
+        containerStatusHistoryRepository.saveAll(List.of(
+                change(1, null, ContainerStatus.UNLOADING, 0),
+                change(1, ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE, 4),
+                change(2, null, ContainerStatus.UNLOADING, 1),
+                change(2, ContainerStatus.UNLOADING, null, 3),
+                change(3, null, ContainerStatus.UNLOADING, 5)));
+    }
+
+    @Test
+    void shouldReturnTimelineOfOneContainerInOrder() {
+        // When
+        List<ContainerStatusChange> timeline =
+                containerStatusHistoryRepository.findByContainerIdAndChangedAtBetweenOrderByChangedAtAsc(
+                        1, Instant.EPOCH, T0.plusSeconds(24 * 3600L));
+
+        // Then
+        assertThat(timeline)
+                .extracting(ContainerStatusChange::getStatus)
+                .containsExactly(ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE);
+    }
+
+    @Test
+    void shouldReturnLastStatusOfEachContainerAtTime() {
+        // When
+        List<ContainerStatusChange> statuses =
+                containerStatusHistoryRepository.findStatusesAt(T0.plusSeconds(2 * 3600L), 0, Limit.of(10));
+
+        // Then
+        assertThat(statuses)
+                .extracting(ContainerStatusChange::getContainerId, ContainerStatusChange::getStatus)
+                .containsExactly(tuple(1, ContainerStatus.UNLOADING), tuple(2, ContainerStatus.UNLOADING));
+    }
+
+    @Test
+    void shouldSkipDeletedContainersAndPageByContainerId() {
+        // When
+        List<ContainerStatusChange> statuses =
+                containerStatusHistoryRepository.findStatusesAt(T0.plusSeconds(6 * 3600L), 1, Limit.of(10));
+
+        // Then
+        assertThat(statuses)
+                .extracting(ContainerStatusChange::getContainerId, ContainerStatusChange::getStatus)
+                .containsExactly(tuple(3, ContainerStatus.UNLOADING));
+    }
+}
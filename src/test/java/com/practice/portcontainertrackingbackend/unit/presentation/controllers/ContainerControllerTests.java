@@ -5,17 +5,36 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.practice.portcontainertrackingbackend.application.ContainerService;
 import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerDwellTimeSummary;
+import com.practice.portcontainertrackingbackend.domain.ContainerExportFormat;
+import com.practice.portcontainertrackingbackend.domain.ContainerPage;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChange;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatusChangePage;
+import com.practice.portcontainertrackingbackend.domain.ContainerTransition;
 import com.practice.portcontainertrackingbackend.exception.ContainerException;
+import com.practice.portcontainertrackingbackend.presentation.events.ContainerEventStream;
 import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.ContainerETags;
+import com.practice.portcontainertrackingbackend.utilities.CursorCodec;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -23,10 +42,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @WebMvcTest
 public class ContainerControllerTests {
@@ -37,16 +58,30 @@ public class ContainerControllerTests {
     @MockBean
     private ContainerService containerService;
 
+    @MockBean
+    private ContainerEventStream containerEventStream;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private Container container;
 
     private String serviceCreateUrl;
+    private String serviceBulkCreateUrl;
     private String serviceDetailUrl;
+    private String serviceCodeUrl;
     private String serviceListUrl;
+    private String serviceCountUrl;
     private String serviceUpdateUrl;
     private String serviceDeleteUrl;
+    private String serviceTransitionUrl;
+    private String serviceStatusSummaryUrl;
+    private String serviceExportUrl;
+    private String serviceEventsUrl;
+    private String serviceHistoryUrl;
+    private String serviceStatusAtUrl;
+    private String serviceDwellTimesUrl;
+    private String serviceCodeSuggestionsUrl;
 
     public Container generateContainer() {
         return Instancio.create(Container.class);
@@ -56,10 +91,21 @@ public class ContainerControllerTests {
     public void setup() {
         container = generateContainer();
         serviceCreateUrl = Constants.BASE_URL + Constants.CREATE_CONTAINER_URL;
+        serviceBulkCreateUrl = Constants.BASE_URL + Constants.BULK_CREATE_CONTAINER_URL;
         serviceDetailUrl = Constants.BASE_URL + Constants.DETAIL_CONTAINER_URL;
+        serviceCodeUrl = Constants.BASE_URL + Constants.CODE_CONTAINER_URL;
         serviceListUrl = Constants.BASE_URL + Constants.LIST_CONTAINER_URL;
+        serviceCountUrl = Constants.BASE_URL + Constants.COUNT_CONTAINER_URL;
         serviceUpdateUrl = Constants.BASE_URL + Constants.UPDATE_CONTAINER_URL;
         serviceDeleteUrl = Constants.BASE_URL + Constants.DELETE_CONTAINER_URL;
+        serviceTransitionUrl = Constants.BASE_URL + Constants.TRANSITION_CONTAINER_URL;
+        serviceStatusSummaryUrl = Constants.BASE_URL + Constants.STATUS_SUMMARY_URL;
+        serviceExportUrl = Constants.BASE_URL + Constants.EXPORT_CONTAINER_URL;
+        serviceEventsUrl = Constants.BASE_URL + Constants.EVENTS_CONTAINER_URL;
+        serviceHistoryUrl = Constants.BASE_URL + Constants.HISTORY_CONTAINER_URL;
+        serviceStatusAtUrl = Constants.BASE_URL + Constants.STATUS_AT_URL;
+        serviceDwellTimesUrl = Constants.BASE_URL + Constants.DWELL_TIMES_URL;
+        serviceCodeSuggestionsUrl = Constants.BASE_URL + Constants.CODE_SUGGESTIONS_URL;
     }
 
     @Nested
@@ -112,6 +158,89 @@ public class ContainerControllerTests {
             // Then
             response.andExpect(status().isBadRequest());
         }
+
+        @Test
+        void shouldCreateOnceWhenIdempotencyKeyIsSent() throws Exception {
+            // Given
+            String idempotencyKey = "7c1f3f0e-5d2a-4b8e-9d61-0f0c2b6f5a11";
+            given(containerService.createContainer(any(Container.class), eq(idempotencyKey)))
+                    .willReturn(container.withId(1));
+
+            // When
+            ResultActions response = mockMvc.perform(post(serviceCreateUrl)
+                    .header(Constants.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(container)));
+
+            // Then
+            response.andExpect(status().isCreated()).andExpect(jsonPath("$.id", is(1)));
+            verify(containerService, never()).createContainer(any(Container.class));
+        }
+
+        @Test
+        void shouldReturn422WhenIdempotencyKeyIsReusedForAnotherContainer() throws Exception {
+            // Given
+            given(containerService.createContainer(any(Container.class), anyString()))
+                    .willThrow(new ContainerException.IdempotencyKeyReusedException("Key reused"));
+
+            // When
+            ResultActions response = mockMvc.perform(post(serviceCreateUrl)
+                    .header(Constants.IDEMPOTENCY_KEY_HEADER, "key")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(container)));
+
+            // Then
+            response.andExpect(status().isUnprocessableEntity());
+        }
+    }
+
+    @Nested
+    class BulkCreateContainer {
+        @Test
+        void shouldCreateAllContainersAndReturn201StatusCode() throws Exception {
+            // Given
+            List<Container> manifest = List.of(container, generateContainer());
+            given(containerService.createContainers(anyList())).willAnswer(arguments -> arguments.getArgument(0));
+
+            // When
+            ResultActions response = mockMvc.perform(post(serviceBulkCreateUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(manifest)));
+
+            // Then
+            response.andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.size()", is(2)))
+                    .andExpect(jsonPath("$[0].code", is(container.getCode())));
+        }
+
+        @Test
+        void shouldReturnBadRequest400WhenManifestIsInvalid() throws Exception {
+            // Given
+            given(containerService.createContainers(anyList()))
+                    .willThrow(new IllegalArgumentException("Error in arguments"));
+
+            // When
+            ResultActions response = mockMvc.perform(post(serviceBulkCreateUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[{}]"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void shouldReturn500WhenUnexpectedErrorHappens() throws Exception {
+            // Given
+            given(containerService.createContainers(anyList())).willThrow(new RuntimeException("Database down"));
+
+            // When
+            ResultActions response = mockMvc.perform(post(serviceBulkCreateUrl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(List.of(container))));
+
+            // Then
+            response.andExpect(status().is5xxServerError());
+        }
     }
 
     @Nested
@@ -137,6 +266,37 @@ public class ContainerControllerTests {
             assertThat(containerRetrieved.getStatus()).isEqualTo(container.getStatus());
         }
 
+        @Test
+        void shouldReturnVersionAsETag() throws Exception {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withVersion(7);
+            given(containerService.getContainer(containerId)).willReturn(Optional.of(container));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceDetailUrl, containerId));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                    .andExpect(jsonPath("$.version", is(7)));
+        }
+
+        @Test
+        void shouldReturn304WithoutBodyWhenETagMatches() throws Exception {
+            // Given
+            int containerId = 1;
+            container = container.withId(containerId).withVersion(7);
+            given(containerService.getContainer(containerId)).willReturn(Optional.of(container));
+
+            // When
+            ResultActions response =
+                    mockMvc.perform(get(serviceDetailUrl, containerId).header(HttpHeaders.IF_NONE_MATCH, "\"7\""));
+
+            // Then
+            response.andExpect(status().isNotModified()).andExpect(content().string(""));
+        }
+
         @Test
         void shouldReturn404NotFoundForNonexistentObject() throws Exception {
             // Given
@@ -151,6 +311,35 @@ public class ContainerControllerTests {
         }
     }
 
+    @Nested
+    class RetrieveContainerByCode {
+        @Test
+        void shouldReturn200OkWhenCodeExists() throws Exception {
+            // Given
+            given(containerService.getContainerByCode(container.getCode())).willReturn(Optional.of(container));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceCodeUrl, container.getCode()));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(container.getId())))
+                    .andExpect(jsonPath("$.code", is(container.getCode())));
+        }
+
+        @Test
+        void shouldReturn404NotFoundWhenCodeDoesNotExist() throws Exception {
+            // Given
+            given(containerService.getContainerByCode("ABC")).willReturn(Optional.empty());
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceCodeUrl, "ABC"));
+
+            // Then
+            response.andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     class ListContainer {
         @Test
@@ -159,19 +348,23 @@ public class ContainerControllerTests {
             Container container2 = generateContainer();
             List<Container> containers = List.of(container, container2);
 
-            given(containerService.getAllContainers()).willReturn(containers);
+            given(containerService.getContainersPage(null, Constants.DEFAULT_PAGE_SIZE))
+                    .willReturn(new ContainerPage(containers, null));
 
             // When
             ResultActions response = mockMvc.perform(get(serviceListUrl));
 
             // Then
-            response.andExpect(status().isOk()).andExpect(jsonPath("$.size()", is(containers.size())));
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size()", is(containers.size())))
+                    .andExpect(header().doesNotExist(Constants.NEXT_CURSOR_HEADER));
         }
 
         @Test
         void shouldReturnEmptyContainerListWhenNoContainersExist() throws Exception {
             // Given
-            given(containerService.getAllContainers()).willReturn(Collections.emptyList());
+            given(containerService.getContainersPage(null, Constants.DEFAULT_PAGE_SIZE))
+                    .willReturn(new ContainerPage(Collections.emptyList(), null));
 
             // When
             ResultActions response = mockMvc.perform(get(serviceListUrl));
@@ -179,6 +372,331 @@ public class ContainerControllerTests {
             // Then
             response.andExpect(status().isOk()).andExpect(jsonPath("$.size()", is(0)));
         }
+
+        @Test
+        void shouldReturnNextCursorHeaderWhenMoreContainersExist() throws Exception {
+            // Given
+            String cursor = CursorCodec.encode(10);
+            String nextCursor = CursorCodec.encode(12);
+            given(containerService.getContainersPage(cursor, 2))
+                    .willReturn(new ContainerPage(List.of(container, generateContainer()), nextCursor));
+
+            // When
+            ResultActions response = mockMvc.perform(
+                    get(serviceListUrl).param("cursor", cursor).param("size", "2"));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size()", is(2)))
+                    .andExpect(header().string(Constants.NEXT_CURSOR_HEADER, nextCursor));
+        }
+
+        @Test
+        void shouldReturn304WhenPageIsUnchanged() throws Exception {
+            // Given
+            List<Container> containers = List.of(container, generateContainer());
+            given(containerService.getContainersPage(null, Constants.DEFAULT_PAGE_SIZE))
+                    .willReturn(new ContainerPage(containers, null));
+            String eTag = mockMvc.perform(get(serviceListUrl))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceListUrl).header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+            // Then
+            assertThat(eTag).isEqualTo(ContainerETags.of(containers));
+            response.andExpect(status().isNotModified()).andExpect(content().string(""));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+            // Given
+            given(containerService.getContainersPage(anyString(), anyInt()))
+                    .willThrow(new IllegalArgumentException("Invalid cursor"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceListUrl).param("cursor", "%%%"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void shouldReturnContainersInRequestedStatus() throws Exception {
+            // Given
+            String nextCursor = CursorCodec.encode(12);
+            given(containerService.getContainersPage(ContainerStatus.READY_FOR_PICKUP, null, 2))
+                    .willReturn(new ContainerPage(
+                            List.of(container.withStatus(ContainerStatus.READY_FOR_PICKUP)), nextCursor));
+
+            // When
+            ResultActions response = mockMvc.perform(
+                    get(serviceListUrl).param("status", "READY_FOR_PICKUP").param("size", "2"));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].status", is("READY_FOR_PICKUP")))
+                    .andExpect(header().string(Constants.NEXT_CURSOR_HEADER, nextCursor));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenStatusIsUnknown() throws Exception {
+            // When
+            ResultActions response = mockMvc.perform(get(serviceListUrl).param("status", "OTHER"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+            verifyNoInteractions(containerService);
+        }
+    }
+
+    @Nested
+    class CodeSuggestions {
+        @Test
+        void shouldReturnCodesStartingWithPrefix() throws Exception {
+            // Given
+            given(containerService.suggestContainerCodes("MSKU12", Constants.DEFAULT_SUGGESTIONS))
+                    .willReturn(List.of("MSKU1200001", "MSKU1200002"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceCodeSuggestionsUrl).param("prefix", "MSKU12"));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size()", is(2)))
+                    .andExpect(jsonPath("$[0]", is("MSKU1200001")));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenPrefixIsBlank() throws Exception {
+            // Given
+            given(containerService.suggestContainerCodes(" ", 5))
+                    .willThrow(new IllegalArgumentException("Error in arguments"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceCodeSuggestionsUrl)
+                    .param("prefix", " ")
+                    .param("limit", "5"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class StatusSummary {
+        @Test
+        void shouldReturnCountPerStatus() throws Exception {
+            // Given
+            Map<ContainerStatus, Long> summary = new EnumMap<>(ContainerStatus.class);
+            summary.put(ContainerStatus.UNLOADING, 12L);
+            summary.put(ContainerStatus.PICKED_UP, 3L);
+            given(containerService.getStatusSummary()).willReturn(summary);
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceStatusSummaryUrl));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.UNLOADING", is(12)))
+                    .andExpect(jsonPath("$.PICKED_UP", is(3)));
+        }
+
+        @Test
+        void shouldReturnCountOfStatus() throws Exception {
+            // Given
+            given(containerService.countContainers(ContainerStatus.PICKED_UP)).willReturn(2_000_000L);
+            given(containerService.countContainers(null)).willReturn(2_000_015L);
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceCountUrl).param("status", "PICKED_UP"));
+            ResultActions totalResponse = mockMvc.perform(get(serviceCountUrl));
+
+            // Then
+            response.andExpect(status().isOk()).andExpect(content().string("2000000"));
+            totalResponse.andExpect(status().isOk()).andExpect(content().string("2000015"));
+        }
+    }
+
+    @Nested
+    class ContainerHistory {
+        @Test
+        void shouldReturnTimelineOfContainer() throws Exception {
+            // Given
+            Instant from = Instant.parse("2026-10-18T08:00:00Z");
+            ContainerStatusChange change = ContainerStatusChange.builder()
+                    .containerId(1)
+                    .code("ABC")
+                    .status(ContainerStatus.UNLOADING)
+                    .changedAt(from.plusSeconds(60))
+                    .build();
+            given(containerService.getContainerHistory(1, from, null)).willReturn(List.of(change));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceHistoryUrl, 1).param("from", from.toString()));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size()", is(1)))
+                    .andExpect(jsonPath("$[0].status", is("UNLOADING")))
+                    .andExpect(jsonPath("$[0].changedAt", is("2026-10-18T08:01:00Z")));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenRangeIsInvalid() throws Exception {
+            // Given
+            given(containerService.getContainerHistory(anyInt(), any(), any()))
+                    .willThrow(new IllegalArgumentException("Error in arguments"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceHistoryUrl, 1)
+                    .param("from", "2026-10-18T16:00:00Z")
+                    .param("to", "2026-10-18T08:00:00Z"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class ContainerStatusesAt {
+        private final Instant at = Instant.parse("2026-10-18T14:00:00Z");
+
+        @Test
+        void shouldReturnStatusesWithNextCursor() throws Exception {
+            // Given
+            String nextCursor = CursorCodec.encode(2);
+            List<ContainerStatusChange> changes =
+                    Instancio.ofList(ContainerStatusChange.class).size(2).create();
+            given(containerService.getContainerStatusesAt(at, null, 2))
+                    .willReturn(new ContainerStatusChangePage(changes, nextCursor));
+
+            // When
+            ResultActions response =
+                    mockMvc.perform(get(serviceStatusAtUrl).param("at", at.toString()).param("size", "2"));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size()", is(2)))
+                    .andExpect(header().string(Constants.NEXT_CURSOR_HEADER, nextCursor));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenTimeIsMissing() throws Exception {
+            // When
+            ResultActions response = mockMvc.perform(get(serviceStatusAtUrl));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+            verifyNoInteractions(containerService);
+        }
+    }
+
+    @Nested
+    class DwellTimes {
+        @Test
+        void shouldReturnDwellTimesPerStatus() throws Exception {
+            // Given
+            Map<ContainerStatus, ContainerDwellTimeSummary> dwellTimes = new EnumMap<>(ContainerStatus.class);
+            dwellTimes.put(
+                    ContainerStatus.CUSTOMS_CLEARANCE, new ContainerDwellTimeSummary(12, 7200, 3600, 86400, 172800));
+            given(containerService.getDwellTimes(null, null)).willReturn(dwellTimes);
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceDwellTimesUrl));
+
+            // Then
+            response.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.CUSTOMS_CLEARANCE.count", is(12)))
+                    .andExpect(jsonPath("$.CUSTOMS_CLEARANCE.p95Seconds", is(86400)));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenRangeIsInvalid() throws Exception {
+            // Given
+            given(containerService.getDwellTimes(any(), any()))
+                    .willThrow(new IllegalArgumentException("Error in arguments"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceDwellTimesUrl)
+                    .param("from", "2026-10-18T16:00:00Z")
+                    .param("to", "2026-10-18T08:00:00Z"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class StreamContainerEvents {
+        @Test
+        void shouldOpenEventStreamWithFilter() throws Exception {
+            // Given
+            given(containerEventStream.subscribe(Set.of(ContainerStatus.UNLOADING), "ABC"))
+                    .willReturn(new SseEmitter());
+
+            // When
+            ResultActions response =
+                    mockMvc.perform(get(serviceEventsUrl).param("status", "UNLOADING").param("code", "ABC"));
+
+            // Then
+            response.andExpect(request().asyncStarted())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+        }
+
+        @Test
+        void shouldReturn503WhenTooManySubscribers() throws Exception {
+            // Given
+            given(containerEventStream.subscribe(any(), any()))
+                    .willThrow(new IllegalStateException("Too many event subscribers"));
+
+            // When
+            ResultActions response = mockMvc.perform(get(serviceEventsUrl));
+
+            // Then
+            response.andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        }
+    }
+
+    @Nested
+    class ExportContainer {
+        @Test
+        void shouldStreamContainersWhenFormatIsSupported() throws Exception {
+            // Given
+            doAnswer(invocation -> {
+                        OutputStream outputStream = invocation.getArgument(1);
+                        outputStream.write("id,code,status\n".getBytes(StandardCharsets.UTF_8));
+                        return null;
+                    })
+                    .when(containerService)
+                    .exportContainers(eq(ContainerExportFormat.CSV), any(OutputStream.class));
+
+            // When
+            MvcResult result = mockMvc.perform(get(serviceExportUrl).param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andExpect(header().string(
+                            HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=containers.csv"))
+                    .andExpect(content().string("id,code,status\n"));
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenFormatIsNotSupported() throws Exception {
+            // When
+            ResultActions response = mockMvc.perform(get(serviceExportUrl).param("format", "xml"));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+            verify(containerService, times(0)).exportContainers(any(), any());
+        }
     }
 
     @Nested
@@ -203,6 +721,55 @@ public class ContainerControllerTests {
                     .andExpect(jsonPath("$.status", is(newContainer.getStatus().toString())));
         }
 
+        @Test
+        void shouldUpdateOnlyExpectedVersionWhenIfMatchIsSent() throws Exception {
+            // Given
+            int containerId = 1;
+            Container newContainer = generateContainer();
+            given(containerService.updateContainer(eq(containerId), any(Container.class), eq(3L)))
+                    .willReturn(newContainer.withId(containerId).withVersion(4));
+
+            // When
+            ResultActions response = mockMvc.perform(put(serviceUpdateUrl, containerId)
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newContainer)));
+
+            // Then
+            response.andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+            verify(containerService, times(0)).updateContainer(anyInt(), any(Container.class));
+        }
+
+        @Test
+        void shouldReturn412WhenVersionNoLongerMatches() throws Exception {
+            // Given
+            int containerId = 1;
+            given(containerService.updateContainer(eq(containerId), any(Container.class), eq(3L)))
+                    .willThrow(new ContainerException.ContainerVersionMismatchException("Version changed"));
+
+            // When
+            ResultActions response = mockMvc.perform(put(serviceUpdateUrl, containerId)
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(generateContainer())));
+
+            // Then
+            response.andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        void shouldReturnBadRequest400WhenIfMatchIsInvalid() throws Exception {
+            // When
+            ResultActions response = mockMvc.perform(put(serviceUpdateUrl, 1)
+                    .header(HttpHeaders.IF_MATCH, "W/\"abc\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(generateContainer())));
+
+            // Then
+            response.andExpect(status().isBadRequest());
+            verifyNoInteractions(containerService);
+        }
+
         @Test
         void shouldThrowExceptionWhenUpdateNoExistingContainer() throws Exception {
             // Given
@@ -280,6 +847,84 @@ public class ContainerControllerTests {
         }
     }
 
+    @Nested
+    class TransitionContainer {
+        private final ContainerTransition transition =
+                new ContainerTransition(ContainerStatus.UNLOADING, ContainerStatus.CUSTOMS_CLEARANCE);
+
+        private ResultActions performTransition(int containerId) throws Exception {
+            return mockMvc.perform(post(serviceTransitionUrl, containerId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(transition)));
+        }
+
+        @Test
+        void shouldReturnOkWhenTransitionApplied() throws Exception {
+            // Given
+            int containerId = 1;
+            given(containerService.transitionContainer(anyInt(), any(ContainerTransition.class)))
+                    .willReturn(container.withId(containerId).withStatus(ContainerStatus.CUSTOMS_CLEARANCE));
+
+            // When
+            ResultActions response = performTransition(containerId);
+
+            // Then
+            response.andExpect(status().isOk()).andExpect(jsonPath("$.status", is("CUSTOMS_CLEARANCE")));
+        }
+
+        @Test
+        void shouldReturnConflictWhenStatusChangedConcurrently() throws Exception {
+            // Given
+            given(containerService.transitionContainer(anyInt(), any(ContainerTransition.class)))
+                    .willThrow(new ContainerException.ContainerStatusConflictException("conflict"));
+
+            // When
+            ResultActions response = performTransition(1);
+
+            // Then
+            response.andExpect(status().isConflict());
+        }
+
+        @Test
+        void shouldReturnNotFoundWhenContainerDoesNotExist() throws Exception {
+            // Given
+            given(containerService.transitionContainer(anyInt(), any(ContainerTransition.class)))
+                    .willThrow(new ContainerException.ContainerNotFoundException("not found"));
+
+            // When
+            ResultActions response = performTransition(1);
+
+            // Then
+            response.andExpect(status().isNotFound());
+        }
+
+        @Test
+        void shouldReturnBadRequestWhenTransitionIsIllegal() throws Exception {
+            // Given
+            given(containerService.transitionContainer(anyInt(), any(ContainerTransition.class)))
+                    .willThrow(new IllegalArgumentException("Illegal status transition"));
+
+            // When
+            ResultActions response = performTransition(1);
+
+            // Then
+            response.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void shouldReturn500WhenUnexpectedErrorHappens() throws Exception {
+            // Given
+            given(containerService.transitionContainer(anyInt(), any(ContainerTransition.class)))
+                    .willThrow(new RuntimeException("Database down"));
+
+            // When
+            ResultActions response = performTransition(1);
+
+            // Then
+            response.andExpect(status().is5xxServerError());
+        }
+    }
+
     @Nested
     class DeleteContainer {
         @Test
@@ -0,0 +1,65 @@
+package com.practice.portcontainertrackingbackend.unit.presentation.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.presentation.events.ContainerEventStream;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContainerEventStreamTests {
+
+    private ContainerEventStream containerEventStream;
+
+    private Container container;
+
+    @BeforeEach
+    public void setup() {
+        containerEventStream = new ContainerEventStream(Runnable::run, 4, 2, Duration.ofMinutes(1));
+        container = Container.builder()
+                .id(1)
+                .code("ABC")
+                .status(ContainerStatus.UNLOADING)
+                .build();
+    }
+
+    @Test
+    void shouldRejectSubscribersOverLimit() {
+        // Given
+        containerEventStream.subscribe(null, null);
+        containerEventStream.subscribe(Set.of(ContainerStatus.UNLOADING), "ABC");
+
+        // Then
+        assertThatThrownBy(() -> containerEventStream.subscribe(null, null)).isInstanceOf(IllegalStateException.class);
+        assertThat(containerEventStream.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepSubscribersWhileTheyKeepUp() {
+        // Given
+        containerEventStream.subscribe(Set.of(ContainerStatus.PICKED_UP), null);
+
+        // When
+        containerEventStream.onContainerEvent(ContainerEvent.created(container));
+        containerEventStream.heartbeat();
+
+        // Then
+        assertThat(containerEventStream.subscriberCount()).isOne();
+    }
+
+    @Test
+    void shouldCloseAllSubscribersOnShutdown() {
+        // Given
+        containerEventStream.subscribe(null, null);
+
+        // When
+        containerEventStream.close();
+
+        // Then
+        assertThat(containerEventStream.subscriberCount()).isZero();
+    }
+}
@@ -0,0 +1,138 @@
+package com.practice.portcontainertrackingbackend.unit.presentation.events;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerEvent;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.presentation.events.ContainerEventSubscription;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class ContainerEventSubscriptionTests {
+
+    private RecordingEmitter emitter;
+
+    private List<Runnable> pendingSends;
+
+    private Container container;
+
+    /** Holds the sends back until the test runs them, like a busy sender pool. */
+    private final Executor deferredExecutor = command -> pendingSends.add(command);
+
+    static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new ArrayList<>();
+        boolean completed;
+        boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().forEach(data -> sent.add(data.getData()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        emitter = new RecordingEmitter();
+        pendingSends = new ArrayList<>();
+        container = Container.builder()
+                .id(1)
+                .code("ABC")
+                .status(ContainerStatus.CUSTOMS_CLEARANCE)
+                .build();
+    }
+
+    private void runPendingSends() {
+        while (!pendingSends.isEmpty()) {
+            pendingSends.remove(0).run();
+        }
+    }
+
+    @Test
+    void shouldMatchEventsEnteringOrLeavingFilteredStatus() {
+        // Given
+        ContainerEventSubscription subscription = new ContainerEventSubscription(
+                emitter, Set.of(ContainerStatus.UNLOADING), null, 4, deferredExecutor);
+
+        // Then
+        assertThat(subscription.matches(ContainerEvent.updated(container, ContainerStatus.UNLOADING)))
+                .isTrue();
+        assertThat(subscription.matches(ContainerEvent.created(container))).isFalse();
+    }
+
+    @Test
+    void shouldMatchOnlyFilteredCode() {
+        // Given
+        ContainerEventSubscription subscription =
+                new ContainerEventSubscription(emitter, Set.of(), "XYZ", 4, deferredExecutor);
+
+        // Then
+        assertThat(subscription.matches(ContainerEvent.created(container))).isFalse();
+        assertThat(subscription.matches(ContainerEvent.created(container.withCode("XYZ"))))
+                .isTrue();
+    }
+
+    @Test
+    void shouldSendQueuedEventsInOneDrain() {
+        // Given
+        ContainerEventSubscription subscription =
+                new ContainerEventSubscription(emitter, Set.of(), null, 4, deferredExecutor);
+        ContainerEvent created = ContainerEvent.created(container);
+        ContainerEvent deleted = ContainerEvent.deleted(container);
+
+        // When
+        subscription.publish(created);
+        subscription.publish(deleted);
+        runPendingSends();
+
+        // Then
+        assertThat(emitter.sent).containsExactly(created, deleted);
+    }
+
+    @Test
+    void shouldDisconnectSubscriberWhenBufferOverflows() {
+        // Given
+        ContainerEventSubscription subscription =
+                new ContainerEventSubscription(emitter, Set.of(), null, 2, deferredExecutor);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            subscription.publish(ContainerEvent.created(container));
+        }
+        runPendingSends();
+
+        // Then
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(emitter.completed).isTrue();
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    @Test
+    void shouldCloseWhenClientIsGone() {
+        // Given
+        ContainerEventSubscription subscription =
+                new ContainerEventSubscription(emitter, Set.of(), null, 4, deferredExecutor);
+        emitter.failing = true;
+
+        // When
+        subscription.heartbeat();
+        runPendingSends();
+
+        // Then
+        assertThat(subscription.isClosed()).isTrue();
+    }
+}
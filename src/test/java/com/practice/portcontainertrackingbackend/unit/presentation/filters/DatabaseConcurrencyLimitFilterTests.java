@@ -0,0 +1,148 @@
+package com.practice.portcontainertrackingbackend.unit.presentation.filters;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.presentation.filters.DatabaseConcurrencyLimitFilter;
+import com.practice.portcontainertrackingbackend.utilities.AimdConcurrencyLimit;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class DatabaseConcurrencyLimitFilterTests {
+
+    private AimdConcurrencyLimit readLimit;
+    private AimdConcurrencyLimit writeLimit;
+    private DatabaseConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        readLimit = new AimdConcurrencyLimit(1, 1, 1, Duration.ofSeconds(10));
+        writeLimit = new AimdConcurrencyLimit(1, 1, 1, Duration.ofSeconds(10));
+        filter = new DatabaseConcurrencyLimitFilter(readLimit, writeLimit, 2);
+    }
+
+    @Test
+    void shouldPassRequestAndReleaseWhenUnderLimit() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", Constants.DETAIL_CONTAINER_URL), response, filterChain);
+
+        // Then
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(readLimit.getInFlight()).isZero();
+        assertThat(readLimit.getRejected()).isZero();
+    }
+
+    @Test
+    void shouldRejectWith503WhenLimitIsReached() throws Exception {
+        // Given
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        AtomicInteger reachedService = new AtomicInteger();
+        FilterChain nestedRequest = (request, response) -> {
+            reachedService.incrementAndGet();
+            filter.doFilter(new MockHttpServletRequest("GET", "/"), rejectedResponse, new MockFilterChain());
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), nestedRequest);
+
+        // Then
+        assertThat(reachedService).hasValue(1);
+        assertThat(rejectedResponse.getStatus()).isEqualTo(503);
+        assertThat(rejectedResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(readLimit.getInFlight()).isZero();
+        assertThat(readLimit.getRejected()).isOne();
+    }
+
+    @Test
+    void shouldAdmitWritesWhileReadsAreAtTheirLimit() throws Exception {
+        // Given
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        MockFilterChain writeChain = new MockFilterChain();
+        FilterChain nestedRequest = (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("POST", "/"), writeResponse, writeChain);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("HEAD", "/"), new MockHttpServletResponse(), nestedRequest);
+
+        // Then
+        assertThat(writeChain.getRequest()).isNotNull();
+        assertThat(writeResponse.getStatus()).isEqualTo(200);
+        assertThat(readLimit.getRejected()).isZero();
+        assertThat(writeLimit.getRejected()).isZero();
+    }
+
+    @Test
+    void shouldRejectWhenReadsAndWritesTogetherReachTheSharedCap() throws Exception {
+        // Given
+        AimdConcurrencyLimit reads = new AimdConcurrencyLimit(2, 1, 2, Duration.ofSeconds(10));
+        AimdConcurrencyLimit writes = new AimdConcurrencyLimit(2, 1, 2, Duration.ofSeconds(10));
+        DatabaseConcurrencyLimitFilter cappedFilter = new DatabaseConcurrencyLimitFilter(reads, writes, 3);
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        FilterChain thirdRequest = (request, response) ->
+                cappedFilter.doFilter(new MockHttpServletRequest("POST", "/"), rejectedResponse, new MockFilterChain());
+        FilterChain secondRequest = (request, response) -> cappedFilter.doFilter(
+                new MockHttpServletRequest("POST", "/"), new MockHttpServletResponse(), thirdRequest);
+
+        // When
+        cappedFilter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), secondRequest);
+
+        // Then
+        assertThat(rejectedResponse.getStatus()).isEqualTo(503);
+        assertThat(rejectedResponse.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(writes.getRejected()).isOne();
+        assertThat(reads.getInFlight()).isZero();
+        assertThat(writes.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldCountServerErrorsAsFailures() throws Exception {
+        // Given
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 1, 10, Duration.ofSeconds(10));
+        DatabaseConcurrencyLimitFilter limitedFilter = new DatabaseConcurrencyLimitFilter(limit, limit, 10);
+        FilterChain failingChain = (request, response) -> ((MockHttpServletResponse) response).setStatus(500);
+
+        // When
+        limitedFilter.doFilter(new MockHttpServletRequest("PUT", "/"), new MockHttpServletResponse(), failingChain);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(9);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotLimitExportAndEvents() throws Exception {
+        // Given
+        MockFilterChain exportChain = new MockFilterChain();
+        MockFilterChain eventsChain = new MockFilterChain();
+        FilterChain nestedRequest = (request, response) -> {
+            filter.doFilter(
+                    new MockHttpServletRequest("GET", Constants.EXPORT_CONTAINER_URL),
+                    new MockHttpServletResponse(),
+                    exportChain);
+            filter.doFilter(
+                    new MockHttpServletRequest("GET", Constants.EVENTS_CONTAINER_URL),
+                    new MockHttpServletResponse(),
+                    eventsChain);
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), nestedRequest);
+
+        // Then
+        assertThat(exportChain.getRequest()).isNotNull();
+        assertThat(eventsChain.getRequest()).isNotNull();
+        assertThat(readLimit.getRejected()).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package com.practice.portcontainertrackingbackend.unit.presentation.filters;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.presentation.filters.ReadYourWritesFilter;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ReadYourWritesFilterTests {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+    private final AtomicBoolean primaryRequired = new AtomicBoolean();
+    private final FilterChain filterChain =
+            (request, response) -> primaryRequired.set(ReadYourWrites.isPrimaryRequired());
+
+    private static MockHttpServletRequest read(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", Constants.BASE_URL);
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        return request;
+    }
+
+    private static Cookie lastWrite(Instant at) {
+        return new Cookie(Constants.LAST_WRITE_COOKIE, Long.toString(at.toEpochMilli()));
+    }
+
+    @Test
+    void shouldPinWritesToPrimaryAndSetCookie() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("PUT", Constants.BASE_URL), response, filterChain);
+
+        // Then
+        assertThat(primaryRequired).isTrue();
+        assertThat(ReadYourWrites.isPrimaryRequired()).isFalse();
+        Cookie cookie = response.getCookie(Constants.LAST_WRITE_COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW.toEpochMilli()));
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(cookie.getPath()).isEqualTo(Constants.BASE_URL);
+    }
+
+    @Test
+    void shouldPinReadsToPrimaryRightAfterAWrite() throws Exception {
+        // When
+        filter.doFilter(read(lastWrite(NOW.minusSeconds(4))), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(primaryRequired).isTrue();
+    }
+
+    @Test
+    void shouldLetReadsUseReplicasWithoutARecentWrite() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(read(), response, filterChain);
+
+        // Then
+        assertThat(primaryRequired).isFalse();
+        assertThat(response.getCookie(Constants.LAST_WRITE_COOKIE)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreExpiredFutureAndMalformedCookies() throws Exception {
+        // When
+        filter.doFilter(read(lastWrite(NOW.minusSeconds(5))), new MockHttpServletResponse(), filterChain);
+        boolean expired = primaryRequired.get();
+        filter.doFilter(read(lastWrite(NOW.plusSeconds(60))), new MockHttpServletResponse(), filterChain);
+        boolean future = primaryRequired.get();
+        filter.doFilter(
+                read(new Cookie(Constants.LAST_WRITE_COOKIE, "soon")), new MockHttpServletResponse(), filterChain);
+        boolean malformed = primaryRequired.get();
+
+        // Then
+        assertThat(expired).isFalse();
+        assertThat(future).isFalse();
+        assertThat(malformed).isFalse();
+    }
+}
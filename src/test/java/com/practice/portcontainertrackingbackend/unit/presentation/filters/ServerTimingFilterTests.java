@@ -0,0 +1,73 @@
+package com.practice.portcontainertrackingbackend.unit.presentation.filters;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.presentation.filters.ServerTimingFilter;
+import com.practice.portcontainertrackingbackend.utilities.Constants;
+import com.practice.portcontainertrackingbackend.utilities.RequestTiming;
+import jakarta.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServerTimingFilterTests {
+
+    @Test
+    void shouldAddServerTimingHeaderAndKeepBodyWhenSampled() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<RequestTiming> timingInChain = new AtomicReference<>();
+        FilterChain filterChain = (request, chainResponse) -> {
+            timingInChain.set(RequestTiming.current());
+            chainResponse.getWriter().write("{\"id\":1}");
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/container/api/v1/detail/1"), response, filterChain);
+
+        // Then
+        assertThat(timingInChain.get()).isNotNull();
+        assertThat(RequestTiming.current()).isNull();
+        assertThat(response.getHeader(Constants.SERVER_TIMING_HEADER)).contains("total;dur=");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void shouldPassThroughWhenNotSampled() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(
+                new MockHttpServletRequest("GET", "/container/api/v1/detail/1"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(Constants.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldNeverSampleExports() throws Exception {
+        // Given
+        ServerTimingFilter filter = new ServerTimingFilter(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(
+                new MockHttpServletRequest("GET", Constants.BASE_URL + Constants.EXPORT_CONTAINER_URL),
+                response,
+                new MockFilterChain());
+
+        // Then
+        assertThat(response.getHeader(Constants.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSampleRateIsOutOfRange() {
+        // Then
+        assertThatThrownBy(() -> new ServerTimingFilter(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
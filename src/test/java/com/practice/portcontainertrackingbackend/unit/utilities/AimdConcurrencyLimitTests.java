@@ -0,0 +1,126 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.utilities.AimdConcurrencyLimit;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class AimdConcurrencyLimitTests {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final AimdConcurrencyLimit limit =
+            new AimdConcurrencyLimit(10, 2, 12, Duration.ofMillis(100), nanoClock::get);
+
+    @Test
+    void shouldRejectOnceLimitIsInFlight() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        // When
+        boolean acquired = limit.tryAcquire();
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(10);
+        assertThat(limit.getRejected()).isOne();
+    }
+
+    @Test
+    void shouldGrowByOneAfterLimitOfFastResponsesWhileBusy() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+        }
+
+        // When
+        releaseFastAndAcquireAgain(10);
+        int afterTen = limit.getLimit();
+        releaseFastAndAcquireAgain(1);
+
+        // Then
+        assertThat(afterTen).isEqualTo(10);
+        assertThat(limit.getLimit()).isEqualTo(11);
+        assertThat(limit.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotGrowPastMax() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire();
+        }
+
+        // When
+        releaseFastAndAcquireAgain(100);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldNotGrowWhileMostlyIdle() {
+        // Given
+        limit.tryAcquire();
+
+        // When
+        limit.release(FAST, false);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldShrinkOncePerThresholdWhenSlowOrFailed() {
+        // Given
+        limit.tryAcquire();
+        limit.tryAcquire();
+        limit.tryAcquire();
+
+        // When
+        limit.release(SLOW, false);
+        limit.release(FAST, true);
+        nanoClock.addAndGet(Duration.ofMillis(100).toNanos());
+        limit.release(FAST, true);
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(8);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotShrinkBelowMin() {
+        // When
+        for (int i = 0; i < 30; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW, false);
+            nanoClock.addAndGet(Duration.ofMillis(100).toNanos());
+        }
+
+        // Then
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Then
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(1, 0, 1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(5, 1, 4, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyLimit(1, 1, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void releaseFastAndAcquireAgain(int times) {
+        for (int i = 0; i < times; i++) {
+            limit.release(FAST, false);
+            limit.tryAcquire();
+        }
+    }
+}
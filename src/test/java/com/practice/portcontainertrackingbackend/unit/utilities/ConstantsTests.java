@@ -14,10 +14,58 @@ public class ConstantsTests {
             // Then
             assertThat(Constants.BASE_URL).isEqualTo("/container");
             assertThat(Constants.CREATE_CONTAINER_URL).isEqualTo("/api/v1/create");
+            assertThat(Constants.BULK_CREATE_CONTAINER_URL).isEqualTo("/api/v1/bulk-create");
             assertThat(Constants.DETAIL_CONTAINER_URL).isEqualTo("/api/v1/detail/{containerId}");
+            assertThat(Constants.CODE_CONTAINER_URL).isEqualTo("/api/v1/code/{code}");
             assertThat(Constants.LIST_CONTAINER_URL).isEqualTo("/api/v1/containers");
+            assertThat(Constants.COUNT_CONTAINER_URL).isEqualTo("/api/v1/containers/count");
             assertThat(Constants.UPDATE_CONTAINER_URL).isEqualTo("/api/v1/update/{containerId}");
             assertThat(Constants.DELETE_CONTAINER_URL).isEqualTo("/api/v1/delete/{containerId}");
+            assertThat(Constants.EXPORT_CONTAINER_URL).isEqualTo("/api/v1/export");
+            assertThat(Constants.STATUS_SUMMARY_URL).isEqualTo("/api/v1/status-summary");
+            assertThat(Constants.EVENTS_CONTAINER_URL).isEqualTo("/api/v1/events");
+            assertThat(Constants.HISTORY_CONTAINER_URL).isEqualTo("/api/v1/history/{containerId}");
+            assertThat(Constants.STATUS_AT_URL).isEqualTo("/api/v1/status-at");
+            assertThat(Constants.DWELL_TIMES_URL).isEqualTo("/api/v1/dwell-times");
+            assertThat(Constants.CODE_SUGGESTIONS_URL).isEqualTo("/api/v1/code-suggestions");
+            assertThat(Constants.TRANSITION_CONTAINER_URL).isEqualTo("/api/v1/transition/{containerId}");
+        }
+    }
+
+    @Nested
+    class Pagination {
+        @Test
+        void should_verify_pagination_values() {
+            // Then
+            assertThat(Constants.DEFAULT_PAGE_SIZE).isEqualTo(100);
+            assertThat(Constants.MAX_PAGE_SIZE).isEqualTo(1000);
+            assertThat(Constants.DEFAULT_SUGGESTIONS).isEqualTo(10);
+            assertThat(Constants.MAX_SUGGESTIONS).isEqualTo(100);
+            assertThat(Constants.NEXT_CURSOR_HEADER).isEqualTo("X-Next-Cursor");
+            assertThat(Constants.SERVER_TIMING_HEADER).isEqualTo("Server-Timing");
+            assertThat(Constants.IDEMPOTENCY_KEY_HEADER).isEqualTo("Idempotency-Key");
+            assertThat(Constants.LAST_WRITE_COOKIE).isEqualTo("container-last-write");
+            assertThat(Constants.MAX_BULK_SIZE).isEqualTo(1000);
+        }
+    }
+
+    @Nested
+    class Caches {
+        @Test
+        void should_verify_cache_names() {
+            // Then
+            assertThat(Constants.CONTAINER_DETAIL_CACHE).isEqualTo("containerDetail");
+            assertThat(Constants.CONTAINER_CODE_CACHE).isEqualTo("containerCode");
+        }
+    }
+
+    @Nested
+    class Schedulers {
+        @Test
+        void should_verify_scheduler_names() {
+            // Then
+            assertThat(Constants.OUTBOX_RELAY_SCHEDULER).isEqualTo("outboxRelayScheduler");
+            assertThat(Constants.ARCHIVE_SCHEDULER).isEqualTo("containerArchiveScheduler");
         }
     }
 }
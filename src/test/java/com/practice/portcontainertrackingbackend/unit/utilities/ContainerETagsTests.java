@@ -0,0 +1,63 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.domain.Container;
+import com.practice.portcontainertrackingbackend.domain.ContainerStatus;
+import com.practice.portcontainertrackingbackend.utilities.ContainerETags;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ContainerETagsTests {
+    private final Container container = Container.builder()
+            .id(1)
+            .code("ABC")
+            .status(ContainerStatus.UNLOADING)
+            .version(3)
+            .build();
+
+    @Test
+    void shouldUseQuotedVersionForContainer() {
+        // Then
+        assertThat(ContainerETags.of(container)).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void shouldChangeListETagWhenAnyContainerChanges() {
+        // Given
+        List<Container> page = List.of(container, container.withId(2));
+
+        // Then
+        assertThat(ContainerETags.of(page))
+                .startsWith("W/\"")
+                .isEqualTo(ContainerETags.of(List.of(container, container.withId(2))))
+                .isNotEqualTo(ContainerETags.of(List.of(container, container.withId(2).withVersion(4))))
+                .isNotEqualTo(ContainerETags.of(List.of(container)));
+    }
+
+    @Test
+    void shouldChangeListETagWhenIdAndVersionChangeTogether() {
+        // Given ids and versions that a polynomial hash would map to the same value
+        List<Container> page = List.of(container.withId(1).withVersion(40));
+        List<Container> changedPage = List.of(container.withId(2).withVersion(9));
+
+        // Then
+        assertThat(ContainerETags.of(page)).isNotEqualTo(ContainerETags.of(changedPage));
+        assertThat(ContainerETags.of(page)).matches("W/\"[0-9a-f]{32}-1\"");
+    }
+
+    @Test
+    void shouldParseVersionFromIfMatch() {
+        // Then
+        assertThat(ContainerETags.parseVersion("\"3\"")).isEqualTo(3L);
+        assertThat(ContainerETags.parseVersion(" * ")).isNull();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIfMatchIsInvalid() {
+        // Then
+        assertThatThrownBy(() -> ContainerETags.parseVersion("3")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContainerETags.parseVersion("W/\"3\"")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContainerETags.parseVersion("\"abc\"")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
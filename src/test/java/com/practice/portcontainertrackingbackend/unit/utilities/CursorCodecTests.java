@@ -0,0 +1,35 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.utilities.CursorCodec;
+import org.junit.jupiter.api.Test;
+
+public class CursorCodecTests {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        // Given
+        int lastId = 40_000_000;
+
+        // When
+        String cursor = CursorCodec.encode(lastId);
+
+        // Then
+        assertThat(CursorCodec.decode(cursor)).isEqualTo(lastId);
+    }
+
+    @Test
+    void shouldStartFromBeginningWhenNoCursor() {
+        // Then
+        assertThat(CursorCodec.decode(null)).isZero();
+        assertThat(CursorCodec.decode("")).isZero();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorIsInvalid() {
+        // Then
+        assertThatThrownBy(() -> CursorCodec.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode("AAAAAAAA")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.utilities.Iso6346;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class Iso6346Tests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CSQU3054383", "MSKU1234565", "TGHU0000008", "AAAJ0000000"})
+    void shouldDecodeEncodedCode(String code) {
+        // When
+        long key = Iso6346.encode(code);
+
+        // Then
+        assertThat(Iso6346.isValid(code)).isTrue();
+        assertThat(key).isNotNegative();
+        assertThat(Iso6346.decode(key)).isEqualTo(code);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(
+            strings = {
+                "",
+                "ABC",
+                "CSQU3054384",
+                "CSQU305438",
+                "CSQU30543830",
+                "csqu3054383",
+                "CSQA3054383",
+                "CSQU30543B3",
+                "C5QU3054383"
+            })
+    void shouldRejectInvalidCode(String code) {
+        // Then
+        assertThat(Iso6346.isValid(code)).isFalse();
+        assertThat(Iso6346.encode(code)).isEqualTo(Iso6346.INVALID);
+        assertThat(Iso6346.key(code)).isNull();
+    }
+
+    @Test
+    void shouldKeepOrderOfCodes() {
+        // Then
+        assertThat(Iso6346.encode("CSQU3054383")).isLessThan(Iso6346.encode("MSKU1234565"));
+        assertThat(Iso6346.encode("MSKU0000011")).isLessThan(Iso6346.encode("MSKU1234565"));
+        assertThat(Iso6346.encode("MSKU1234565")).isLessThan(Iso6346.encode("MSKZ0000000"));
+    }
+
+    @Test
+    void shouldDecodeIntoGivenArray() {
+        // Given
+        char[] target = new char[Iso6346.LENGTH + 2];
+
+        // When
+        Iso6346.decode(Iso6346.encode("CSQU3054383"), target, 1);
+
+        // Then
+        assertThat(new String(target, 1, Iso6346.LENGTH)).isEqualTo("CSQU3054383");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenKeyIsOutOfRange() {
+        // Then
+        assertThatThrownBy(() -> Iso6346.decode(Iso6346.INVALID)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Iso6346.decode(Long.MAX_VALUE)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
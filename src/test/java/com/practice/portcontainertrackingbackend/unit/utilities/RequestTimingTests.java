@@ -0,0 +1,60 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.utilities.RequestTiming;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestTimingTests {
+
+    @AfterEach
+    public void tearDown() {
+        RequestTiming.end();
+    }
+
+    @Test
+    void shouldOnlyBeCurrentBetweenBeginAndEnd() {
+        // When
+        RequestTiming timing = RequestTiming.begin();
+
+        // Then
+        assertThat(RequestTiming.current()).isSameAs(timing);
+        RequestTiming.end();
+        assertThat(RequestTiming.current()).isNull();
+    }
+
+    @Test
+    void shouldReportNestedPhasesExclusively() {
+        // Given
+        RequestTiming timing = RequestTiming.begin();
+        timing.addServiceTime(3_500_000);
+        timing.addRepositoryTime(2_000_000);
+
+        // When
+        String header = timing.toHeaderValue(System.nanoTime());
+
+        // Then
+        assertThat(header)
+                .startsWith("controller;dur=0.000, service;dur=1.500, db;dur=2.000, "
+                        + "serialization;dur=0.000, total;dur=")
+                .matches(".*total;dur=\\d+\\.\\d{3}");
+    }
+
+    @Test
+    void shouldSplitHandlerTimeIntoControllerAndSerialization() {
+        // Given
+        RequestTiming timing = RequestTiming.begin();
+        timing.markHandlerStart();
+        timing.markBodyWriteStart();
+        timing.markHandlerEnd();
+
+        // When
+        String header = timing.toHeaderValue(System.nanoTime());
+
+        // Then
+        assertThat(header)
+                .matches("controller;dur=\\d+\\.\\d{3}, service;dur=0\\.000, db;dur=0\\.000, "
+                        + "serialization;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+    }
+}
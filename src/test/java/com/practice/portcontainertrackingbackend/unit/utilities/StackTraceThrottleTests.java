@@ -0,0 +1,59 @@
+package com.practice.portcontainertrackingbackend.unit.utilities;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.practice.portcontainertrackingbackend.utilities.StackTraceThrottle;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class StackTraceThrottleTests {
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final StackTraceThrottle throttle = new StackTraceThrottle(Duration.ofSeconds(60), nanoClock::get);
+
+    @Test
+    void shouldLetThroughFirstStackTraceOnly() {
+        // Given
+        IllegalArgumentException first = new IllegalArgumentException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+
+        // When
+        Throwable firstSampled = throttle.sample(first);
+        nanoClock.addAndGet(Duration.ofSeconds(59).toNanos());
+        Throwable secondSampled = throttle.sample(second);
+
+        // Then
+        assertThat(firstSampled).isSameAs(first);
+        assertThat(secondSampled).isNull();
+    }
+
+    @Test
+    void shouldLetThroughAgainAfterInterval() {
+        // Given
+        throttle.sample(new IllegalArgumentException());
+        IllegalArgumentException later = new IllegalArgumentException();
+
+        // When
+        nanoClock.addAndGet(Duration.ofSeconds(60).toNanos());
+
+        // Then
+        assertThat(throttle.sample(later)).isSameAs(later);
+    }
+
+    @Test
+    void shouldThrottleEachExceptionTypeSeparately() {
+        // Given
+        throttle.sample(new IllegalArgumentException());
+        IllegalStateException other = new IllegalStateException();
+
+        // Then
+        assertThat(throttle.sample(other)).isSameAs(other);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenIntervalIsNegative() {
+        // Then
+        assertThatThrownBy(() -> new StackTraceThrottle(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}